@@ -0,0 +1,102 @@
+package io.scalecube.config;
+
+import io.scalecube.config.source.LoadedConfigProperty;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of reading current values of already created config properties. Run with
+ * {@code -prof gc} to see allocation rate per read.
+ */
+@Fork(2)
+@Threads(4)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PropertyReadBenchmark {
+
+  private ConfigRegistry configRegistry;
+  private int intKeyId;
+  private IntConfigProperty intProperty;
+  private StringConfigProperty stringProperty;
+  private ObjectConfigProperty<ObjectConfig> objectProperty;
+
+  /** Setup method. */
+  @Setup
+  public void setUp() {
+    Map<String, ConfigProperty> configMap = new HashMap<>();
+    put(configMap, "int", "42");
+    put(configMap, "string", "value");
+    put(configMap, "object.intValue", "42");
+    put(configMap, "object.stringValue", "value");
+
+    configRegistry =
+        ConfigRegistry.create(
+            ConfigRegistrySettings.builder()
+                .noReload()
+                .jmxEnabled(false)
+                .addLastSource("benchmark", () -> configMap)
+                .build());
+
+    intKeyId = configRegistry.keyId("int");
+    intProperty = configRegistry.intProperty("int");
+    stringProperty = configRegistry.stringProperty("string");
+    objectProperty = configRegistry.objectProperty("object", ObjectConfig.class);
+  }
+
+  /** Tear down method. */
+  @TearDown
+  public void tearDown() {
+    configRegistry.close();
+  }
+
+  @Benchmark
+  public int intValue() {
+    return intProperty.value(0);
+  }
+
+  @Benchmark
+  public Optional<String> stringValue() {
+    return stringProperty.value();
+  }
+
+  @Benchmark
+  public ObjectConfig objectValue() {
+    return objectProperty.value(null);
+  }
+
+  @Benchmark
+  public int snapshotIntValueByName() {
+    return configRegistry.snapshot().intValue("int", 0);
+  }
+
+  @Benchmark
+  public int snapshotIntValueByKeyId() {
+    return configRegistry.snapshot().intValue(intKeyId, 0);
+  }
+
+  private static void put(Map<String, ConfigProperty> configMap, String name, String value) {
+    configMap.put(name, LoadedConfigProperty.forNameAndValue(name, value));
+  }
+
+  public static class ObjectConfig {
+    private int intValue;
+    private String stringValue;
+  }
+}
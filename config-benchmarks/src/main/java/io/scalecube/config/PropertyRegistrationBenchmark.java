@@ -0,0 +1,64 @@
+package io.scalecube.config;
+
+import io.scalecube.config.source.LoadedConfigProperty;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of obtaining config properties from the registry, i.e. what code pays when it
+ * calls {@code registry.intProperty(name)} or {@code registry.intValue(name, defaultValue)} on a
+ * request path instead of holding on to the property instance.
+ */
+@Fork(2)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PropertyRegistrationBenchmark {
+
+  private ConfigRegistry configRegistry;
+
+  /** Setup method. */
+  @Setup
+  public void setUp() {
+    Map<String, ConfigProperty> configMap = new HashMap<>();
+    configMap.put("int", LoadedConfigProperty.forNameAndValue("int", "42"));
+
+    configRegistry =
+        ConfigRegistry.create(
+            ConfigRegistrySettings.builder()
+                .noReload()
+                .jmxEnabled(false)
+                .addLastSource("benchmark", () -> configMap)
+                .build());
+  }
+
+  /** Tear down method. */
+  @TearDown
+  public void tearDown() {
+    configRegistry.close();
+  }
+
+  @Benchmark
+  public IntConfigProperty intProperty() {
+    return configRegistry.intProperty("int");
+  }
+
+  @Benchmark
+  public int intValue() {
+    return configRegistry.intValue("int", 0);
+  }
+}
@@ -0,0 +1,104 @@
+package io.scalecube.config;
+
+import io.scalecube.config.source.ConfigSource;
+import io.scalecube.config.source.LoadedConfigProperty;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures one reload cycle of the config registry ({@link ConfigRegistryImpl#loadAndNotify()})
+ * for different number of properties and different share of properties changed between reloads.
+ * Every loaded property has a registered config property instance, so the benchmark covers
+ * diffing, event reporting and callbacks dispatching.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReloadBenchmark {
+
+  @Param({"1000", "10000", "100000"})
+  private int propertiesNum;
+
+  @Param({"0", "1", "100"})
+  private int churnPercent;
+
+  private ConfigRegistryImpl configRegistry;
+
+  /** Setup method. */
+  @Setup
+  public void setUp() {
+    Map<String, ConfigProperty> configMap = new HashMap<>();
+    Map<String, ConfigProperty> churnedConfigMap = new HashMap<>();
+
+    int churnedNum = propertiesNum * churnPercent / 100;
+    for (int i = 0; i < propertiesNum; i++) {
+      String name = "benchmark.property-" + i;
+      String value = "value-" + i;
+      String churnedValue = i < churnedNum ? value + "-churned" : value;
+      configMap.put(name, LoadedConfigProperty.forNameAndValue(name, value));
+      churnedConfigMap.put(name, LoadedConfigProperty.forNameAndValue(name, churnedValue));
+    }
+
+    configRegistry =
+        new ConfigRegistryImpl(
+            ConfigRegistrySettings.builder()
+                .noReload()
+                .jmxEnabled(false)
+                .keepRecentConfigEvents(0)
+                .addLastSource(
+                    "benchmark", new AlternatingConfigSource(configMap, churnedConfigMap))
+                .build());
+    configRegistry.init();
+
+    for (String name : configMap.keySet()) {
+      configRegistry.stringProperty(name);
+    }
+  }
+
+  /** Tear down method. */
+  @TearDown
+  public void tearDown() {
+    configRegistry.close();
+  }
+
+  @Benchmark
+  public void loadAndNotify() {
+    configRegistry.loadAndNotify();
+  }
+
+  /** Config source which returns its two config maps in turn on each load. */
+  private static class AlternatingConfigSource implements ConfigSource {
+
+    private final Map<String, ConfigProperty> configMap;
+    private final Map<String, ConfigProperty> churnedConfigMap;
+    private boolean churned;
+
+    private AlternatingConfigSource(
+        Map<String, ConfigProperty> configMap, Map<String, ConfigProperty> churnedConfigMap) {
+      this.configMap = configMap;
+      this.churnedConfigMap = churnedConfigMap;
+    }
+
+    @Override
+    public Map<String, ConfigProperty> loadConfig() {
+      churned = !churned;
+      return churned ? churnedConfigMap : configMap;
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package io.scalecube.config.maven;
+
+import io.scalecube.config.ConfigProperty;
+import io.scalecube.config.source.ClassPathConfigSource;
+import io.scalecube.config.source.ConfigBundle;
+import io.scalecube.config.source.ConfigBundleConfigSource;
+import java.io.File;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * Builds config bundle out of the config files found on runtime classpath of the project, exactly
+ * as {@link ClassPathConfigSource} created with the same filename and prefix patterns would load
+ * them at runtime. The bundle is written into project output directory, so it's packaged along
+ * with classes and can be loaded at runtime with {@link ConfigBundleConfigSource}.
+ */
+@Mojo(
+    name = "bundle",
+    defaultPhase = LifecyclePhase.PROCESS_CLASSES,
+    requiresDependencyResolution = ResolutionScope.RUNTIME,
+    threadSafe = true)
+public class ConfigBundleMojo extends AbstractMojo {
+
+  @Parameter(defaultValue = "${project}", readonly = true, required = true)
+  private MavenProject project;
+
+  /** Filename of config files, e.g. {@code config.properties}. */
+  @Parameter(required = true)
+  private String filename;
+
+  /** Prefix patterns of config files, in order of their priority. */
+  @Parameter private List<String> prefixPatterns = new ArrayList<>();
+
+  /** Bundle file. */
+  @Parameter(
+      defaultValue =
+          "${project.build.outputDirectory}/" + ConfigBundleConfigSource.DEFAULT_RESOURCE_NAME,
+      required = true)
+  private File outputFile;
+
+  @Parameter(defaultValue = "false")
+  private boolean skip;
+
+  @Override
+  public void execute() throws MojoExecutionException {
+    if (skip) {
+      getLog().info("Config bundle is skipped");
+      return;
+    }
+
+    try (URLClassLoader classLoader = new URLClassLoader(getRuntimeClasspath(), null)) {
+      Map<String, ConfigProperty> configMap =
+          ClassPathConfigSource.createWithPattern(filename, prefixPatterns, classLoader)
+              .loadConfig();
+
+      Files.createDirectories(outputFile.getParentFile().toPath());
+      try (OutputStream out = Files.newOutputStream(outputFile.toPath())) {
+        ConfigBundle.write(configMap, out);
+      }
+      getLog()
+          .info("Config bundle of " + configMap.size() + " properties written to " + outputFile);
+    } catch (Exception e) {
+      throw new MojoExecutionException("Failed to build config bundle", e);
+    }
+  }
+
+  private URL[] getRuntimeClasspath() throws Exception {
+    List<URL> urls = new ArrayList<>();
+    for (String element : project.getRuntimeClasspathElements()) {
+      urls.add(new File(element).toURI().toURL());
+    }
+    return urls.toArray(new URL[0]);
+  }
+}
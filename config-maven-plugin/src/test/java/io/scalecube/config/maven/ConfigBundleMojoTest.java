@@ -0,0 +1,85 @@
+package io.scalecube.config.maven;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.scalecube.config.source.ConfigBundle;
+import io.scalecube.config.source.ConfigBundleConfigSource;
+import io.scalecube.config.source.LoadedConfigProperty;
+import java.io.File;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.apache.maven.project.MavenProject;
+import org.junit.jupiter.api.Test;
+
+class ConfigBundleMojoTest {
+
+  @Test
+  void testBundleWrittenInOrderOfPrefixPatterns() throws Exception {
+    Path directory = Files.createTempDirectory("config");
+    Path dependency = Files.createDirectories(directory.resolve("dependency"));
+    Path classes = Files.createDirectories(directory.resolve("classes"));
+    writeFile(dependency.resolve("config.props"), "a=base", "b=base", "c=base");
+    writeFile(dependency.resolve("override.config.props"), "a=override", "b=override");
+    writeFile(classes.resolve("local.config.props"), "a=local");
+
+    File outputFile = classes.resolve(ConfigBundleConfigSource.DEFAULT_RESOURCE_NAME).toFile();
+    ConfigBundleMojo mojo = new ConfigBundleMojo();
+    setField(mojo, "project", newProject(classes, dependency));
+    setField(mojo, "filename", "config.props");
+    setField(mojo, "prefixPatterns", Arrays.asList("local", "override"));
+    setField(mojo, "outputFile", outputFile);
+
+    mojo.execute();
+
+    Map<String, LoadedConfigProperty> bundle =
+        ConfigBundle.read(ByteBuffer.wrap(Files.readAllBytes(outputFile.toPath())));
+    assertEquals(Arrays.asList("a", "b", "c"), Arrays.asList(bundle.keySet().toArray()));
+    assertEquals(Optional.of("local"), bundle.get("a").valueAsString());
+    assertEquals(Optional.of("override"), bundle.get("b").valueAsString());
+    assertEquals(Optional.of("base"), bundle.get("c").valueAsString());
+    assertTrue(bundle.get("a").origin().orElse("").endsWith("local.config.props"));
+  }
+
+  @Test
+  void testBundleSkipped() throws Exception {
+    Path directory = Files.createTempDirectory("config");
+    File outputFile = directory.resolve(ConfigBundleConfigSource.DEFAULT_RESOURCE_NAME).toFile();
+    ConfigBundleMojo mojo = new ConfigBundleMojo();
+    setField(mojo, "project", newProject(directory));
+    setField(mojo, "filename", "config.props");
+    setField(mojo, "outputFile", outputFile);
+    setField(mojo, "skip", true);
+
+    mojo.execute();
+
+    assertFalse(outputFile.exists());
+  }
+
+  private static MavenProject newProject(Path... classpath) {
+    return new MavenProject() {
+      @Override
+      public List<String> getRuntimeClasspathElements() {
+        return Arrays.stream(classpath).map(Path::toString).collect(Collectors.toList());
+      }
+    };
+  }
+
+  private static void writeFile(Path file, String... lines) throws Exception {
+    Files.write(file, Arrays.asList(lines));
+  }
+
+  private static void setField(Object target, String name, Object value) throws Exception {
+    Field field = target.getClass().getDeclaredField(name);
+    field.setAccessible(true);
+    field.set(target, value);
+  }
+}
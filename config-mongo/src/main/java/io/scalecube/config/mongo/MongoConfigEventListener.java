@@ -3,12 +3,15 @@
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.scalecube.config.audit.ConfigEvent;
 import io.scalecube.config.audit.ConfigEventListener;
+import io.scalecube.config.utils.ExecutorStrategy;
 import io.scalecube.config.utils.ThrowableUtil;
 import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
 import java.util.Collection;
 import java.util.Date;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.stream.Collectors;
@@ -16,7 +19,7 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class MongoConfigEventListener implements ConfigEventListener {
+public class MongoConfigEventListener implements ConfigEventListener, Closeable {
   private static final Logger LOGGER = LoggerFactory.getLogger(MongoConfigEventListener.class);
 
   private static final ThreadFactory threadFactory;
@@ -32,58 +35,92 @@ public class MongoConfigEventListener implements ConfigEventListener {
         };
   }
 
-  private static final Executor executor = Executors.newSingleThreadExecutor(threadFactory);
+  private static final Executor defaultExecutor = Executors.newSingleThreadExecutor(threadFactory);
 
   private final MongoConfigConnector connector;
   private final String collectionName;
+  private final Executor executor;
+  private final ExecutorService ownExecutor; // null if default executor is used
+
+  // audit log entries are written one batch after another, whatever threads executor has
+  private CompletableFuture<Void> lastWrite = CompletableFuture.completedFuture(null);
 
   public MongoConfigEventListener(
        MongoConfigConnector connector,  String collectionName) {
     this.connector = connector;
     this.collectionName = collectionName;
+    this.executor = defaultExecutor;
+    this.ownExecutor = null;
+  }
+
+  /**
+   * Creates config event listener which writes audit log entries on executor created by the given
+   * strategy.
+   *
+   * @param connector mongo connector
+   * @param collectionName audit log collection name
+   * @param executorStrategy executor strategy
+   */
+  public MongoConfigEventListener(
+      MongoConfigConnector connector, String collectionName, ExecutorStrategy executorStrategy) {
+    this.connector = connector;
+    this.collectionName = collectionName;
+    this.ownExecutor = executorStrategy.newExecutor("mongo-config-auditor", 1);
+    this.executor = ownExecutor;
   }
 
   @Override
-  public void onEvents(Collection<ConfigEvent> events) {
-    CompletableFuture.runAsync(
-        () -> {
-          ObjectMapper objectMapper = MongoConfigObjectMapper.getInstance();
-          connector
-              .getDatabase()
-              .getCollection(collectionName, RawBsonDocument.class)
-              .insertMany(
-                  events
-                      .stream()
-                      .map(
-                          event -> {
-                            AuditLogEntity entity = new AuditLogEntity();
-                            entity.setName(event.getName());
-                            entity.setTimestamp(event.getTimestamp());
-                            entity.setHost(event.getHost());
-                            entity.setType(event.getType().toString());
-                            entity.setNewSource(event.getNewSource());
-                            entity.setNewOrigin(event.getNewOrigin());
-                            entity.setNewValue(event.getNewValue());
-                            entity.setOldSource(event.getOldSource());
-                            entity.setOldOrigin(event.getOldOrigin());
-                            entity.setOldValue(event.getOldValue());
-                            return entity;
-                          })
-                      .map(
-                          entity -> {
-                            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-                            try {
-                              objectMapper.writer().writeValue(baos, entity);
-                            } catch (Exception e) {
-                              LOGGER.error(
-                                  "Exception at converting obj: {} to bson, cause: {}", entity, e);
-                              throw ThrowableUtil.propagate(e);
-                            }
-                            return new RawBsonDocument(baos.toByteArray());
-                          })
-                      .collect(Collectors.toList()));
-        },
-        executor);
+  public synchronized void onEvents(Collection<ConfigEvent> events) {
+    lastWrite =
+        lastWrite
+            .exceptionally(throwable -> null)
+            .thenRunAsync(() -> insertEvents(events), executor);
+  }
+
+  /** Shuts down executor created by executor strategy, audit log entries queued are written. */
+  @Override
+  public void close() {
+    if (ownExecutor != null) {
+      ownExecutor.shutdown();
+    }
+  }
+
+  private void insertEvents(Collection<ConfigEvent> events) {
+    ObjectMapper objectMapper = MongoConfigObjectMapper.getInstance();
+    connector
+        .getDatabase()
+        .getCollection(collectionName, RawBsonDocument.class)
+        .insertMany(
+            events
+                .stream()
+                .map(
+                    event -> {
+                      AuditLogEntity entity = new AuditLogEntity();
+                      entity.setName(event.getName());
+                      entity.setTimestamp(event.getTimestamp());
+                      entity.setHost(event.getHost());
+                      entity.setType(event.getType().toString());
+                      entity.setNewSource(event.getNewSource());
+                      entity.setNewOrigin(event.getNewOrigin());
+                      entity.setNewValue(event.getNewValue());
+                      entity.setOldSource(event.getOldSource());
+                      entity.setOldOrigin(event.getOldOrigin());
+                      entity.setOldValue(event.getOldValue());
+                      return entity;
+                    })
+                .map(
+                    entity -> {
+                      ByteArrayOutputStream baos = new ByteArrayOutputStream();
+                      try {
+                        objectMapper.writer().writeValue(baos, entity);
+                      } catch (Exception e) {
+                        LOGGER.error(
+                            "Exception at converting obj: {} to bson, cause: {}", entity, e);
+                        throw ThrowableUtil.propagate(e);
+                      }
+                      return new RawBsonDocument(baos.toByteArray());
+                    })
+                .collect(Collectors.toList()));
   }
 
   private static class AuditLogEntity {
@@ -10,6 +10,7 @@
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,13 +34,14 @@
   final Class<?> propertyClass;
   final Collection<Predicate<T>> validators =
       new CopyOnWriteArraySet<>(); // of type Set for a reason
-  final Collection<BiConsumer<T, T>> callbacks =
+  final Collection<CallbackDispatcher.Mailbox<T>> callbacks =
       new CopyOnWriteArraySet<>(); // of type Set for a reason
 
   private PropertyCallback<T> propertyCallback; // initialized from subclass
   private volatile T value; // initialized from subclass, reset in callback
   private volatile List<LoadedConfigProperty>
       inputList; // initialized from subclass, reset in callback
+  private volatile long version; // incremented on each value reset
 
   AbstractConfigProperty(String name, Class<?> propertyClass) {
     this.name = name;
@@ -54,6 +56,10 @@ public final Optional<T> value() {
     return Optional.ofNullable(value);
   }
 
+  public final long version() {
+    return version;
+  }
+
   public final void addValidator(Predicate<T> validator) {
     if (!validator.test(value)) {
       throw new IllegalArgumentException(String.format(ERROR_VALIDATION_FAILED, name, value));
@@ -62,11 +68,13 @@ public final void addValidator(Predicate<T> validator) {
   }
 
   public final void addCallback(BiConsumer<T, T> callback) {
-    callbacks.add((t1, t2) -> invokeCallback(callback, t1, t2));
+    callbacks.add(new CallbackDispatcher.Mailbox<>((t1, t2) -> invokeCallback(callback, t1, t2)));
   }
 
   public final void addCallback(Executor executor, BiConsumer<T, T> callback) {
-    callbacks.add((t1, t2) -> executor.execute(() -> invokeCallback(callback, t1, t2)));
+    callbacks.add(
+        new CallbackDispatcher.Mailbox<>(
+            (t1, t2) -> executor.execute(() -> invokeCallback(callback, t1, t2))));
   }
 
   /**
@@ -80,12 +88,13 @@ final void setPropertyCallback(PropertyCallback<T> propertyCallback) {
   }
 
   /**
-   * This method is being called from subclasses to assign a {@link #value} with initial value.
+   * This method is being called from subclasses to assign a {@link #value} with initial value,
+   * after {@link #setPropertyCallback(PropertyCallback)}.
    *
-   * @see PropertyCallback#computeValue(List, AbstractConfigProperty)
+   * @see PropertyCallback#computeValue(Supplier, AbstractConfigProperty)
    */
-  final void computeValue(List<LoadedConfigProperty> inputList) {
-    propertyCallback.computeValue(inputList, this);
+  final void computeValue(Supplier<Map<String, LoadedConfigProperty>> propertyMapSupplier) {
+    propertyCallback.computeValue(propertyMapSupplier, this);
   }
 
   /**
@@ -95,10 +104,12 @@ final void computeValue(List<LoadedConfigProperty> inputList) {
    * @param value1 new value to set; may be null.
    * @param inputList1 valueParser input list; contains additional info such as source, origin and
    *     string value representation which in fact had built up given {@code value1} param.
-   * @param invokeCallbacks flag indicating whether it's needed to notify callbacks about changes.
+   * @param callbackDispatcher dispatcher to notify callbacks about changes with; null if it's not
+   *     needed to notify callbacks.
    * @throws IllegalArgumentException in case new value fails against existing validators.
    */
-  final void acceptValue(T value1, List<LoadedConfigProperty> inputList1, boolean invokeCallbacks) {
+  final void acceptValue(
+      T value1, List<LoadedConfigProperty> inputList1, CallbackDispatcher callbackDispatcher) {
     if ((value == null && value1 == null) || isInputsEqual(inputList1)) {
       return;
     }
@@ -111,14 +122,31 @@ final void acceptValue(T value1, List<LoadedConfigProperty> inputList1, boolean
     T t2 = value = value1;
 
     inputList = inputList1;
+    version++; // after value, so that version never runs ahead of value it's read with
 
-    if (invokeCallbacks) {
-      for (BiConsumer<T, T> callback : callbacks) {
-        callback.accept(t1, t2);
+    onValueChanged(t2);
+
+    if (callbackDispatcher != null) {
+      for (CallbackDispatcher.Mailbox<T> callback : callbacks) {
+        callbackDispatcher.dispatch(callback, t1, t2);
       }
     }
   }
 
+  /**
+   * Being called each time {@link #value} gets reset, before callbacks are notified. Subclasses may
+   * override it to keep their own (for example unboxed) copy of the value. Notice that the first
+   * call happens from {@link #computeValue(Supplier)}, which is called from a superclass
+   * constructor of the overriding class ({@link AbstractSimpleConfigProperty} for simple
+   * properties). Hence it happens before the overriding class is initialized: its fields are not
+   * assigned yet and field initializers run afterwards, overwriting what the first call assigned.
+   *
+   * @param value new value; may be null.
+   */
+  void onValueChanged(T value) {
+    // no-op
+  }
+
   /**
    * Helper method which applies given {@code mapper} lambda to the {@link #inputList} (if any). For
    * example if one needs to retrieve more than just a {@link #value} info from this config
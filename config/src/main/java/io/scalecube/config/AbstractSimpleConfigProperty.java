@@ -5,8 +5,8 @@
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Parent class for 'simple' property types, such as: double, int, string, list and etc.
@@ -19,17 +19,16 @@
   AbstractSimpleConfigProperty(
       String name,
       Class<?> propertyClass,
-      Map<String, LoadedConfigProperty> propertyMap,
-      Map<String, Map<Class, PropertyCallback>> propertyCallbackMap,
+      Supplier<Map<String, LoadedConfigProperty>> propertyMapSupplier,
+      PropertyCallbackIndex propertyCallbackIndex,
       Function<String, T> valueParser) {
 
     super(name, propertyClass);
 
     // noinspection unchecked
-    setPropertyCallback(computePropertyCallback(valueParser, propertyCallbackMap));
+    setPropertyCallback(computePropertyCallback(valueParser, propertyCallbackIndex));
 
-    LoadedConfigProperty configProperty = propertyMap.get(name);
-    computeValue(configProperty != null ? Collections.singletonList(configProperty) : null);
+    computeValue(propertyMapSupplier);
   }
 
   @Override
@@ -57,15 +56,14 @@ final NoSuchElementException newNoSuchElementException() {
   }
 
   private PropertyCallback computePropertyCallback(
-      Function<String, T> valueParser,
-      Map<String, Map<Class, PropertyCallback>> propertyCallbackMap) {
-
-    PropertyCallback<T> propertyCallback =
-        new PropertyCallback<>(list -> list.get(0).valueAsString().map(valueParser).orElse(null));
-
-    propertyCallbackMap.putIfAbsent(name, new ConcurrentHashMap<>());
-    Map<Class, PropertyCallback> callbackMap = propertyCallbackMap.get(name);
-    callbackMap.putIfAbsent(propertyClass, propertyCallback);
-    return callbackMap.get(propertyClass);
+      Function<String, T> valueParser, PropertyCallbackIndex propertyCallbackIndex) {
+    return propertyCallbackIndex.computeIfAbsent(
+        name,
+        propertyClass,
+        () ->
+            new PropertyCallback<>(
+                Collections.singletonList(name),
+                propertyClass,
+                list -> list.get(0).valueAsString().map(valueParser).orElse(null)));
   }
 }
@@ -2,24 +2,46 @@
 
 import io.scalecube.config.source.LoadedConfigProperty;
 import java.util.Map;
+import java.util.function.Supplier;
 
 class BooleanConfigPropertyImpl extends AbstractSimpleConfigProperty<Boolean>
     implements BooleanConfigProperty {
 
+  private volatile boolean booleanValue;
+  private volatile boolean present;
+
   BooleanConfigPropertyImpl(
       String name,
-      Map<String, LoadedConfigProperty> propertyMap,
-      Map<String, Map<Class, PropertyCallback>> propertyCallbackMap) {
-    super(name, Boolean.class, propertyMap, propertyCallbackMap, ConfigRegistryImpl.BOOLEAN_PARSER);
+      Supplier<Map<String, LoadedConfigProperty>> propertyMapSupplier,
+      PropertyCallbackIndex propertyCallbackIndex) {
+    super(
+        name,
+        Boolean.class,
+        propertyMapSupplier,
+        propertyCallbackIndex,
+        ConfigRegistryImpl.BOOLEAN_PARSER);
   }
 
   @Override
   public boolean value(boolean defaultValue) {
-    return value().orElse(defaultValue);
+    return present ? booleanValue : defaultValue;
   }
 
   @Override
   public boolean valueOrThrow() {
-    return value().orElseThrow(this::newNoSuchElementException);
+    if (!present) {
+      throw newNoSuchElementException();
+    }
+    return booleanValue;
+  }
+
+  @Override
+  void onValueChanged(Boolean value) {
+    if (value != null) {
+      booleanValue = value;
+      present = true;
+    } else {
+      present = false;
+    }
   }
 }
@@ -0,0 +1,173 @@
+package io.scalecube.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * Delivers value changes of config properties to their callbacks. By default callbacks are invoked
+ * right away on config registry reload thread. With executor, every callback gets its own mailbox
+ * which holds at most one pending change: if callback lags behind, changes coalesce and callback
+ * receives the value it saw last time along with the latest one. Callback is never invoked
+ * concurrently with itself.
+ */
+final class CallbackDispatcher {
+
+  private final ExecutorService executor; // null if callbacks are invoked on reload thread
+
+  private volatile boolean shutdown;
+
+  private final LongAdder queueDepth = new LongAdder();
+  private final LongAdder deliveredCount = new LongAdder();
+  private final LongAdder coalescedCount = new LongAdder();
+  private final LongAdder totalDelayNanos = new LongAdder();
+  private final LongAdder totalLatencyNanos = new LongAdder();
+  private final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0);
+
+  /**
+   * Constructor.
+   *
+   * @param executor executor to invoke callbacks on, or null to invoke them on reload thread
+   */
+  CallbackDispatcher(ExecutorService executor) {
+    this.executor = executor;
+  }
+
+  /**
+   * Dispatches value change to the callback behind the given mailbox.
+   *
+   * @param mailbox mailbox of callback
+   * @param oldValue old value
+   * @param newValue new value
+   * @param <T> type of the property value
+   */
+  <T> void dispatch(Mailbox<T> mailbox, T oldValue, T newValue) {
+    if (shutdown) {
+      return;
+    }
+    if (executor == null) {
+      invoke(mailbox.callback, oldValue, newValue);
+      return;
+    }
+
+    boolean submit;
+    synchronized (mailbox) {
+      if (mailbox.pending) {
+        mailbox.newValue = newValue; // keep old value the callback has seen
+        coalescedCount.increment();
+      } else {
+        mailbox.pending = true;
+        mailbox.oldValue = oldValue;
+        mailbox.newValue = newValue;
+        mailbox.pendingSince = System.nanoTime();
+        queueDepth.increment();
+      }
+      submit = !mailbox.scheduled;
+      mailbox.scheduled = true;
+    }
+    if (submit) {
+      try {
+        executor.execute(() -> drain(mailbox));
+      } catch (RejectedExecutionException e) {
+        drop(mailbox); // dispatcher is shut down along with config registry
+      }
+    }
+  }
+
+  private <T> void drop(Mailbox<T> mailbox) {
+    synchronized (mailbox) {
+      if (mailbox.pending) {
+        mailbox.pending = false;
+        mailbox.oldValue = null;
+        mailbox.newValue = null;
+        queueDepth.decrement();
+      }
+      mailbox.scheduled = false;
+    }
+  }
+
+  private <T> void drain(Mailbox<T> mailbox) {
+    while (true) {
+      T oldValue;
+      T newValue;
+      long pendingSince;
+      synchronized (mailbox) {
+        if (!mailbox.pending) {
+          mailbox.scheduled = false;
+          return;
+        }
+        oldValue = mailbox.oldValue;
+        newValue = mailbox.newValue;
+        pendingSince = mailbox.pendingSince;
+        mailbox.pending = false;
+        mailbox.oldValue = null;
+        mailbox.newValue = null;
+        queueDepth.decrement();
+      }
+      totalDelayNanos.add(System.nanoTime() - pendingSince);
+      invoke(mailbox.callback, oldValue, newValue);
+    }
+  }
+
+  private <T> void invoke(BiConsumer<T, T> callback, T oldValue, T newValue) {
+    long startTime = System.nanoTime();
+    try {
+      callback.accept(oldValue, newValue);
+    } finally {
+      long latency = System.nanoTime() - startTime;
+      deliveredCount.increment();
+      totalLatencyNanos.add(latency);
+      maxLatencyNanos.accumulate(latency);
+    }
+  }
+
+  /**
+   * Shuts dispatcher down: changes already dispatched are still delivered, the ones dispatched
+   * afterwards are dropped.
+   */
+  void shutdown() {
+    shutdown = true;
+    if (executor != null) {
+      executor.shutdown();
+    }
+  }
+
+  /** Returns dispatcher metrics. */
+  CallbackDispatcherInfo getInfo() {
+    long delivered = deliveredCount.sum();
+    CallbackDispatcherInfo info = new CallbackDispatcherInfo();
+    info.setAsync(executor != null);
+    info.setQueueDepth(queueDepth.sum());
+    info.setDeliveredCount(delivered);
+    info.setCoalescedCount(coalescedCount.sum());
+    info.setAvgDelayMicros(
+        delivered > 0 ? TimeUnit.NANOSECONDS.toMicros(totalDelayNanos.sum() / delivered) : 0);
+    info.setAvgLatencyMicros(
+        delivered > 0 ? TimeUnit.NANOSECONDS.toMicros(totalLatencyNanos.sum() / delivered) : 0);
+    info.setMaxLatencyMicros(TimeUnit.NANOSECONDS.toMicros(maxLatencyNanos.get()));
+    return info;
+  }
+
+  /**
+   * Mailbox of config property callback, holds change pending for delivery.
+   *
+   * @param <T> type of the property value
+   */
+  static final class Mailbox<T> {
+    private final BiConsumer<T, T> callback;
+
+    // guarded by this
+    private boolean pending;
+    private boolean scheduled;
+    private T oldValue;
+    private T newValue;
+    private long pendingSince;
+
+    Mailbox(BiConsumer<T, T> callback) {
+      this.callback = callback;
+    }
+  }
+}
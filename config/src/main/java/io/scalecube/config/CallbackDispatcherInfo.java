@@ -0,0 +1,93 @@
+package io.scalecube.config;
+
+public final class CallbackDispatcherInfo {
+  private boolean async;
+  private long queueDepth;
+  private long deliveredCount;
+  private long coalescedCount;
+  private long avgDelayMicros;
+  private long avgLatencyMicros;
+  private long maxLatencyMicros;
+
+  /** Returns whether callbacks are invoked on dispatcher threads rather than on reload thread. */
+  public boolean isAsync() {
+    return async;
+  }
+
+  public void setAsync(boolean async) {
+    this.async = async;
+  }
+
+  /** Returns number of callbacks with pending changes. */
+  public long getQueueDepth() {
+    return queueDepth;
+  }
+
+  public void setQueueDepth(long queueDepth) {
+    this.queueDepth = queueDepth;
+  }
+
+  /** Returns number of callback invocations. */
+  public long getDeliveredCount() {
+    return deliveredCount;
+  }
+
+  public void setDeliveredCount(long deliveredCount) {
+    this.deliveredCount = deliveredCount;
+  }
+
+  /** Returns number of changes merged into pending ones because callback lagged behind. */
+  public long getCoalescedCount() {
+    return coalescedCount;
+  }
+
+  public void setCoalescedCount(long coalescedCount) {
+    this.coalescedCount = coalescedCount;
+  }
+
+  /** Returns average time changes were pending before delivery. */
+  public long getAvgDelayMicros() {
+    return avgDelayMicros;
+  }
+
+  public void setAvgDelayMicros(long avgDelayMicros) {
+    this.avgDelayMicros = avgDelayMicros;
+  }
+
+  /** Returns average callback execution time. */
+  public long getAvgLatencyMicros() {
+    return avgLatencyMicros;
+  }
+
+  public void setAvgLatencyMicros(long avgLatencyMicros) {
+    this.avgLatencyMicros = avgLatencyMicros;
+  }
+
+  /** Returns maximal callback execution time. */
+  public long getMaxLatencyMicros() {
+    return maxLatencyMicros;
+  }
+
+  public void setMaxLatencyMicros(long maxLatencyMicros) {
+    this.maxLatencyMicros = maxLatencyMicros;
+  }
+
+  @Override
+  public String toString() {
+    return "{\"async\":\""
+        + async
+        + "\",\"queueDepth\":\""
+        + queueDepth
+        + "\",\"deliveredCount\":\""
+        + deliveredCount
+        + "\",\"coalescedCount\":\""
+        + coalescedCount
+        + "\",\"avgDelayMicros\":\""
+        + avgDelayMicros
+        + "\",\"avgLatencyMicros\":\""
+        + avgLatencyMicros
+        + "\",\"maxLatencyMicros\":\""
+        + maxLatencyMicros
+        + "\"}";
+  }
+}
@@ -0,0 +1,75 @@
+package io.scalecube.config;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of property names registered for lookups by integer key id, see {@link
+ * ConfigRegistry#keyId(String)}. Key ids are assigned sequentially starting from 0 and never
+ * change, so that they can be used as indexes in arrays of property values.
+ */
+final class ConfigKeyIndex {
+
+  private final Map<String, Integer> keyIds = new ConcurrentHashMap<>();
+
+  private volatile String[] names = new String[16]; // grows, ids beyond size are not assigned yet
+  private volatile int size;
+
+  /**
+   * Returns key id of the given property name, assigns new one if name is registered first time.
+   *
+   * @param name property name
+   * @return key id
+   */
+  int register(String name) {
+    Integer keyId = keyIds.get(name);
+    if (keyId != null) {
+      return keyId;
+    }
+    synchronized (this) {
+      keyId = keyIds.get(name);
+      if (keyId != null) {
+        return keyId;
+      }
+      int newKeyId = size;
+      if (newKeyId == names.length) {
+        names = Arrays.copyOf(names, newKeyId * 2);
+      }
+      names[newKeyId] = name;
+      size = newKeyId + 1; // publishes name before key id is handed out
+      keyIds.put(name, newKeyId);
+      return newKeyId;
+    }
+  }
+
+  /**
+   * Returns key id of the given property name.
+   *
+   * @param name property name
+   * @return key id, or -1 if name is not registered
+   */
+  int keyId(String name) {
+    Integer keyId = keyIds.get(name);
+    return keyId != null ? keyId : -1;
+  }
+
+  /**
+   * Returns property name of the given key id.
+   *
+   * @param keyId key id
+   * @return property name
+   * @throws IllegalArgumentException if key id is not assigned
+   */
+  String name(int keyId) {
+    if (keyId < 0 || keyId >= size) {
+      throw new IllegalArgumentException("Unknown key id: " + keyId);
+    }
+    return names[keyId];
+  }
+
+  /** Returns number of registered property names, key ids below it are assigned. */
+  int size() {
+    return size;
+  }
+}
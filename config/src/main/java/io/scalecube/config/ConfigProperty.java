@@ -54,4 +54,16 @@ public interface ConfigProperty {
    * @return existing value or default
    */
   String valueAsString(String defaultValue);
+
+  /**
+   * Returns version of value of this property. Version is incremented each time value changes, so
+   * that comparing versions is enough to tell whether value has changed since it was read last
+   * time. Version is 0 until property gets its first value. Properties loaded by config sources are
+   * not versioned, they always return 0.
+   *
+   * @return value version
+   */
+  default long version() {
+    return 0;
+  }
 }
@@ -7,17 +7,25 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 /**
  * Config registry base facade interface.
  *
+ * <p>Simple typed properties (string, numeric, boolean, duration, list and multimap ones) are
+ * cached by property name and type: repeated calls return the same property instance, hence
+ * validators and callbacks added to it are shared by all its callers. Shortcut methods like {@link
+ * #intValue(String, int)} do not create property instances on subsequent calls.
+ *
  * @author Anton Kharenko
  */
-public interface ConfigRegistry {
+public interface ConfigRegistry extends AutoCloseable {
 
   /**
-   * Creates new instance of config registry with the given settings.
+   * Creates new instance of config registry with the given settings. Config sources are loaded
+   * before this method returns (unless config registry starts from snapshot, see {@link
+   * ConfigRegistrySettings.Builder#snapshotFile(java.nio.file.Path)}).
    *
    * @param settings config registry settings
    * @return config registry instance
@@ -28,6 +36,22 @@ static ConfigRegistry create(ConfigRegistrySettings settings) {
     return configRegistry;
   }
 
+  /**
+   * Creates new instance of config registry with the given settings, config sources are loaded in
+   * background. Config properties can be obtained from the registry right away: until config
+   * sources are loaded they have no values (defaults are used), then they get values and their
+   * callbacks are invoked as on reload.
+   *
+   * @param settings config registry settings
+   * @return config registry instance
+   * @see #ready()
+   */
+  static ConfigRegistry createAsync(ConfigRegistrySettings settings) {
+    ConfigRegistryImpl configRegistry = new ConfigRegistryImpl(settings);
+    configRegistry.init(true);
+    return configRegistry;
+  }
+
   /**
    * Returns dynamic typed object property.
    *
@@ -378,6 +402,27 @@ Map<String, List<Double>> doubleMultimapValue(
   Map<String, List<Duration>> durationMultimapValue(
       String name, Map<String, List<Duration>> defaultValue);
 
+  /**
+   * Returns snapshot of all loaded config properties. Snapshot is immutable and is replaced as a
+   * whole on reload, so that it's a cheap way to read several related config properties
+   * consistently. Config properties obtained from the registry get their new values right after
+   * new snapshot is published.
+   *
+   * @return current config snapshot
+   */
+  ConfigSnapshot snapshot();
+
+  /**
+   * Returns key id of the given property name, registering the name if it's not registered yet.
+   * Key id never changes for the lifetime of config registry, and lets {@link ConfigSnapshot} look
+   * up property value without hashing its name. Meant to be obtained once and kept, e.g. in a
+   * static field.
+   *
+   * @param name property name
+   * @return key id
+   */
+  int keyId(String name);
+
   /** Returns set of all loaded property keys. */
   Set<String> allProperties();
 
@@ -392,4 +437,24 @@ Map<String, List<Duration>> durationMultimapValue(
 
   /** Returns config registry settings. */
   ConfigRegistrySettings getSettings();
+
+  /** Returns metrics of config property callbacks dispatching. */
+  CallbackDispatcherInfo getCallbackDispatcherInfo();
+
+  /**
+   * Returns future which completes with this config registry once its config sources have been
+   * loaded for the first time. If config sources fail to load, it completes upon the first
+   * successful reload; in stale-tolerant mode it completes after the first load attempt.
+   *
+   * @return readiness future
+   */
+  CompletableFuture<ConfigRegistry> ready();
+
+  /**
+   * Closes config registry: stops reloading config sources, unregisters JMX MBean and releases
+   * resources held by config registry and by its config sources and listeners which implement
+   * {@link AutoCloseable}. Config properties obtained from the registry keep their last values.
+   */
+  @Override
+  void close();
 }
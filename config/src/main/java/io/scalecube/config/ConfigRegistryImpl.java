@@ -2,14 +2,22 @@
 
 import io.scalecube.config.audit.ConfigEvent;
 import io.scalecube.config.jmx.JmxConfigRegistry;
+import io.scalecube.config.source.ConfigBundle;
 import io.scalecube.config.source.ConfigSource;
 import io.scalecube.config.source.ConfigSourceInfo;
 import io.scalecube.config.source.LoadedConfigProperty;
 import io.scalecube.config.utils.ThrowableUtil;
+import java.io.OutputStream;
 import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.time.Duration;
-import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -22,14 +30,24 @@
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import javax.management.MBeanServer;
 import javax.management.ObjectName;
 import org.slf4j.Logger;
@@ -46,21 +64,14 @@ final class ConfigRegistryImpl implements ConfigRegistry {
   static final Function<String, Integer> INT_PARSER = Integer::parseInt;
   static final Function<String, Duration> DURATION_PARSER = DurationParser::parseDuration;
 
-  // reload executor
-
-  private static final ScheduledExecutorService reloadExecutor;
-
-  static {
-    ThreadFactory threadFactory =
-        r -> {
-          Thread thread = new Thread(r);
-          thread.setDaemon(true);
-          thread.setName("config-registry");
-          thread.setUncaughtExceptionHandler((t, e) -> LOGGER.error("Exception occurred: " + e, e));
-          return thread;
-        };
-    reloadExecutor = Executors.newSingleThreadScheduledExecutor(threadFactory);
-  }
+  private static final ThreadFactory reloadThreadFactory =
+      r -> {
+        Thread thread = new Thread(r);
+        thread.setDaemon(true);
+        thread.setName("config-registry");
+        thread.setUncaughtExceptionHandler((t, e) -> LOGGER.error("Exception occurred: " + e, e));
+        return thread;
+      };
 
   // state fields
 
@@ -68,12 +79,43 @@ final class ConfigRegistryImpl implements ConfigRegistry {
 
   private final Map<String, Integer> configSourceStatusMap = new HashMap<>();
 
-  private volatile Map<String, LoadedConfigProperty> propertyMap; // being reset on reload
+  private final Map<String, ConfigSourceState> configSourceStateMap = new LinkedHashMap<>();
+
+  // loaded properties, replaced as a whole on reload; null until config sources are loaded
+  private volatile ConfigSnapshotImpl configSnapshot;
+
+  private final ConfigKeyIndex keyIndex = new ConfigKeyIndex();
+
+  // completes once config sources are loaded for the first time
+  private final CompletableFuture<ConfigRegistry> readyFuture = new CompletableFuture<>();
+
+  private final PropertyCallbackIndex propertyCallbackIndex = new PropertyCallbackIndex();
+
+  // runs reloads one after another, one per config registry
+  private final ScheduledExecutorService reloadExecutor;
+
+  private final ExecutorService sourceLoadExecutor; // created by settings executor strategy
+
+  private final CallbackDispatcher callbackDispatcher;
 
+  private long reloadCount; // accessed by reload process only
+
+  private final AtomicBoolean closed = new AtomicBoolean();
+
+  private volatile boolean jmxMBeanRegistered; // not to unregister MBean of another registry
+
+  // canonical instances of simple config properties, by property name and property class
   @SuppressWarnings("rawtypes")
-  private final Map<String, Map<Class, PropertyCallback>> propertyCallbackMap =
+  private final Map<String, Map<Class, Reference<ConfigProperty>>> propertyInstanceMap =
       new ConcurrentHashMap<>();
 
+  // config properties are referenced weakly everywhere else, so unless weak references mode is
+  // turned on this is what keeps them alive
+  private final Set<Object> retainedProperties = ConcurrentHashMap.newKeySet();
+
+  // taken shared when registering config properties, exclusively when purging released ones
+  private final ReadWriteLock registrationLock = new ReentrantReadWriteLock();
+
   private final LinkedHashMap<ConfigEvent, Object> recentConfigEvents =
       new LinkedHashMap<ConfigEvent, Object>() {
         @Override
@@ -85,44 +127,316 @@ protected boolean removeEldestEntry(Map.Entry<ConfigEvent, Object> eldest) {
   ConfigRegistryImpl(ConfigRegistrySettings settings) {
     Objects.requireNonNull(settings, "ConfigRegistrySettings can't be null");
     this.settings = settings;
+    this.reloadExecutor = newReloadExecutor();
+    this.sourceLoadExecutor = settings.getExecutorStrategy().newExecutor("config-source-loader");
+    this.callbackDispatcher = new CallbackDispatcher(newCallbackDispatchExecutor(settings));
+    settings
+        .getSources()
+        .forEach((name, source) -> configSourceStateMap.put(name, new ConfigSourceState(source)));
+  }
+
+  private static ScheduledExecutorService newReloadExecutor() {
+    ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, reloadThreadFactory);
+    // pending debounced reloads are dropped on close
+    executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    return executor;
+  }
+
+  private static ExecutorService newCallbackDispatchExecutor(ConfigRegistrySettings settings) {
+    if (settings.getCallbackDispatchThreads() == 0) {
+      return null;
+    }
+    return settings
+        .getExecutorStrategy()
+        .newExecutor("config-callback-dispatcher", settings.getCallbackDispatchThreads());
   }
 
   void init() {
-    loadAndNotify();
+    init(false);
+  }
+
+  /**
+   * Initializes config registry: loads config sources and schedules their reloads. If it fails,
+   * config registry gets closed, so that threads it has started don't outlive it.
+   *
+   * @param async whether config sources are loaded in background, in that case config registry
+   *     starts with no config properties (or with the ones from snapshot, if any), see {@link
+   *     #ready()}
+   */
+  void init(boolean async) {
+    try {
+      start(async);
+    } catch (RuntimeException | Error e) {
+      close();
+      throw e;
+    }
+  }
 
-    if (settings.isReloadEnabled()) {
-      reloadExecutor.scheduleAtFixedRate(
+  private void start(boolean async) {
+    if (restoreSnapshot() || async) {
+      if (configSnapshot == null) {
+        configSnapshot = new ConfigSnapshotImpl(0, Collections.emptyMap(), keyIndex);
+      }
+      // start with config properties from snapshot (if any), and load config sources in background
+      reloadExecutor.execute(
           () -> {
             try {
               loadAndNotify();
             } catch (Exception e) {
               LOGGER.error("[loadAndNotify] Exception occurred, cause: " + e);
             }
-          },
-          settings.getReloadIntervalSec(),
-          settings.getReloadIntervalSec(),
-          TimeUnit.SECONDS);
+          });
+    } else {
+      loadAndNotify();
     }
 
+    settings
+        .getSources()
+        .forEach(
+            (sourceName, source) -> {
+              if (source.subscribe(() -> onSourceChanged(sourceName))) {
+                LOGGER.debug("[subscribe][{}] Subscribed to config source changes", sourceName);
+              }
+            });
+
+    // config sources with the same reload interval are reloaded together
+    Map<Integer, List<String>> reloadIntervalMap = new TreeMap<>();
+    for (String sourceName : configSourceStateMap.keySet()) {
+      if (settings.isReloadEnabled(sourceName)) {
+        reloadIntervalMap
+            .computeIfAbsent(settings.getReloadIntervalSec(sourceName), i -> new ArrayList<>())
+            .add(sourceName);
+      }
+    }
+
+    reloadIntervalMap.forEach(
+        (reloadIntervalSec, sourceNames) ->
+            reloadExecutor.scheduleAtFixedRate(
+                () -> {
+                  try {
+                    loadAndNotify(sourceNames);
+                  } catch (Exception e) {
+                    LOGGER.error("[loadAndNotify] Exception occurred, cause: " + e);
+                  }
+                },
+                reloadIntervalSec,
+                reloadIntervalSec,
+                TimeUnit.SECONDS));
+
     if (settings.isJmxEnabled()) {
       registerJmxMBean();
     }
   }
 
+  /**
+   * Restores config properties from snapshot file, if it's configured and exists. Config
+   * properties become current ones, and serve as properties of their config sources until those
+   * get loaded.
+   *
+   * @return true if snapshot was restored
+   */
+  private boolean restoreSnapshot() {
+    Path snapshotFile = settings.getSnapshotFile();
+    if (snapshotFile == null || !Files.exists(snapshotFile)) {
+      return false;
+    }
+
+    Map<String, LoadedConfigProperty> snapshot;
+    try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+      snapshot = ConfigBundle.read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    } catch (Exception e) {
+      LOGGER.warn(
+          "[restoreSnapshot] Can't read snapshot file '{}', cause: {}", snapshotFile, e.toString());
+      return false;
+    }
+
+    Map<String, LoadedConfigProperty> restoredPropertyMap = new HashMap<>();
+    Map<String, Map<String, ConfigProperty>> sourceConfigMaps = new HashMap<>();
+    snapshot.forEach(
+        (name, property) -> {
+          String sourceName = property.source().orElse(null);
+          if (configSourceStateMap.containsKey(sourceName)) {
+            restoredPropertyMap.put(name, property);
+            sourceConfigMaps
+                .computeIfAbsent(sourceName, key -> new HashMap<>())
+                .put(name, property);
+          }
+        });
+    sourceConfigMaps.forEach(
+        (sourceName, configMap) -> configSourceStateMap.get(sourceName).restore(configMap));
+    configSnapshot = new ConfigSnapshotImpl(0, restoredPropertyMap, keyIndex);
+
+    LOGGER.info(
+        "[restoreSnapshot] Restored {} config properties from snapshot file '{}'",
+        restoredPropertyMap.size(),
+        snapshotFile);
+    return true;
+  }
+
+  /**
+   * Saves config properties to snapshot file. File is replaced atomically, so that it's never seen
+   * partially written.
+   */
+  private void saveSnapshot(Path snapshotFile, Map<String, LoadedConfigProperty> propertyMap) {
+    try {
+      Path directory = snapshotFile.toAbsolutePath().getParent();
+      Files.createDirectories(directory);
+      Path tmpFile = Files.createTempFile(directory, snapshotFile.getFileName().toString(), ".tmp");
+      try {
+        try (OutputStream out = Files.newOutputStream(tmpFile)) {
+          ConfigBundle.write(propertyMap, out);
+        }
+        Files.move(
+            tmpFile,
+            snapshotFile,
+            StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+      } finally {
+        Files.deleteIfExists(tmpFile);
+      }
+    } catch (Exception e) {
+      LOGGER.warn(
+          "[saveSnapshot] Can't write snapshot file '{}', cause: {}", snapshotFile, e.toString());
+    }
+  }
+
+  private void onSourceChanged(String sourceName) {
+    if (closed.get()) {
+      return;
+    }
+    ConfigSourceState state = configSourceStateMap.get(sourceName);
+    if (!state.scheduleReload()) {
+      return; // reload is already pending
+    }
+    try {
+      reloadExecutor.schedule(
+          () -> {
+            state.scheduledReloadStarted();
+            try {
+              loadAndNotify(Collections.singletonList(sourceName));
+            } catch (Exception e) {
+              LOGGER.error("[loadAndNotify][{}] Exception occurred, cause: {}", sourceName, e);
+            }
+          },
+          settings.getReloadDebounce().toMillis(),
+          TimeUnit.MILLISECONDS);
+    } catch (RejectedExecutionException e) {
+      LOGGER.debug("[onSourceChanged][{}] Config registry is closed", sourceName);
+    }
+  }
+
   private void registerJmxMBean() {
     try {
       MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
       ObjectName objectName = new ObjectName(settings.getJmxMBeanName());
       mbeanServer.registerMBean(new JmxConfigRegistry(this), objectName);
+      jmxMBeanRegistered = true;
     } catch (Exception e) {
       throw ThrowableUtil.propagate(e);
     }
   }
 
+  private void unregisterJmxMBean() {
+    try {
+      MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+      ObjectName objectName = new ObjectName(settings.getJmxMBeanName());
+      if (mbeanServer.isRegistered(objectName)) {
+        mbeanServer.unregisterMBean(objectName);
+      }
+    } catch (Exception e) {
+      LOGGER.warn("[close] Can't unregister JMX MBean, cause: {}", e.toString());
+    }
+  }
+
+  /**
+   * Returns config property instance registered under given name and class, or creates and
+   * registers new one. Being on a hot path of {@code *Value(name, defaultValue)} shortcuts, the
+   * lookup is done with plain map reads first and doesn't allocate.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private <P extends ConfigProperty> P computeProperty(
+      String name, Class<?> propertyClass, PropertyFactory<P> propertyFactory) {
+    Map<Class, Reference<ConfigProperty>> instanceMap = propertyInstanceMap.get(name);
+    if (instanceMap != null) {
+      Reference<ConfigProperty> reference = instanceMap.get(propertyClass);
+      ConfigProperty instance = reference != null ? reference.get() : null;
+      if (instance != null) {
+        return (P) instance;
+      }
+    }
+
+    return registerProperty(
+        () -> {
+          ConfigProperty[] instance = new ConfigProperty[1];
+          propertyInstanceMap
+              .computeIfAbsent(name, key -> new ConcurrentHashMap<>())
+              .compute(
+                  propertyClass,
+                  (key, reference) -> {
+                    instance[0] = reference != null ? reference.get() : null;
+                    if (instance[0] != null) {
+                      return reference;
+                    }
+                    instance[0] =
+                        retain(
+                            propertyFactory.newProperty(
+                                name, this::propertyMap, propertyCallbackIndex));
+                    return new WeakReference<>(instance[0]);
+                  });
+          return (P) instance[0];
+        });
+  }
+
+  /**
+   * Creates config property under registration lock. Config property constructors bind themselves
+   * to {@link PropertyCallback}-s, this must not interleave with {@link
+   * #purgeReleasedProperties()}.
+   */
+  private <P> P registerProperty(Supplier<P> propertySupplier) {
+    Lock lock = registrationLock.readLock();
+    lock.lock();
+    try {
+      return retain(propertySupplier.get());
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private <P> P retain(P property) {
+    if (!settings.isWeakPropertyReferences()) {
+      retainedProperties.add(property);
+    }
+    return property;
+  }
+
+  /**
+   * Removes garbage collected config properties from {@link PropertyCallback}-s, and then
+   * property callbacks and canonical property instances which have nothing left to serve. Makes
+   * sense only in weak references mode, otherwise config properties are never released.
+   */
+  private void purgeReleasedProperties() {
+    Lock lock = registrationLock.writeLock();
+    lock.lock();
+    try {
+      propertyCallbackIndex.purge();
+      propertyInstanceMap
+          .values()
+          .removeIf(
+              instanceMap -> {
+                instanceMap.values().removeIf(reference -> reference.get() == null);
+                return instanceMap.isEmpty();
+              });
+    } finally {
+      lock.unlock();
+    }
+  }
+
   @Override
   public <T> ObjectConfigProperty<T> objectProperty(String name, Function<String, T> mapper) {
-    return new MappedObjectConfigProperty<>(
-        new StringConfigPropertyImpl(name, propertyMap, propertyCallbackMap), mapper);
+    return registerProperty(
+        () ->
+            new MappedObjectConfigProperty<>(
+                name, this::propertyMap, propertyCallbackIndex, mapper));
   }
 
   @Override
@@ -130,13 +444,19 @@ public <T> ObjectConfigProperty<T> objectProperty(String prefix, Class<T> cfgCla
     Map<String, String> bindingMap =
         Arrays.stream(cfgClass.getDeclaredFields())
             .collect(Collectors.toMap(Field::getName, field -> prefix + '.' + field.getName()));
-    return new ObjectConfigPropertyImpl<>(bindingMap, cfgClass, propertyMap, propertyCallbackMap);
+    return registerProperty(
+        () ->
+            new ObjectConfigPropertyImpl<>(
+                bindingMap, cfgClass, this::propertyMap, propertyCallbackIndex));
   }
 
   @Override
   public <T> ObjectConfigProperty<T> objectProperty(
       Map<String, String> bindingMap, Class<T> cfgClass) {
-    return new ObjectConfigPropertyImpl<>(bindingMap, cfgClass, propertyMap, propertyCallbackMap);
+    return registerProperty(
+        () ->
+            new ObjectConfigPropertyImpl<>(
+                bindingMap, cfgClass, this::propertyMap, propertyCallbackIndex));
   }
 
   @Override
@@ -161,7 +481,7 @@ public <T> T objectValue(Class<T> cfgClass, T defaultValue) {
 
   @Override
   public StringConfigProperty stringProperty(String name) {
-    return new StringConfigPropertyImpl(name, propertyMap, propertyCallbackMap);
+    return computeProperty(name, String.class, StringConfigPropertyImpl::new);
   }
 
   @Override
@@ -171,7 +491,7 @@ public String stringValue(String name, String defaultValue) {
 
   @Override
   public DoubleConfigProperty doubleProperty(String name) {
-    return new DoubleConfigPropertyImpl(name, propertyMap, propertyCallbackMap);
+    return computeProperty(name, Double.class, DoubleConfigPropertyImpl::new);
   }
 
   @Override
@@ -181,7 +501,7 @@ public double doubleValue(String name, double defaultValue) {
 
   @Override
   public LongConfigProperty longProperty(String name) {
-    return new LongConfigPropertyImpl(name, propertyMap, propertyCallbackMap);
+    return computeProperty(name, Long.class, LongConfigPropertyImpl::new);
   }
 
   @Override
@@ -191,7 +511,7 @@ public long longValue(String name, long defaultValue) {
 
   @Override
   public BooleanConfigProperty booleanProperty(String name) {
-    return new BooleanConfigPropertyImpl(name, propertyMap, propertyCallbackMap);
+    return computeProperty(name, Boolean.class, BooleanConfigPropertyImpl::new);
   }
 
   @Override
@@ -201,7 +521,7 @@ public boolean booleanValue(String name, boolean defaultValue) {
 
   @Override
   public IntConfigProperty intProperty(String name) {
-    return new IntConfigPropertyImpl(name, propertyMap, propertyCallbackMap);
+    return computeProperty(name, Integer.class, IntConfigPropertyImpl::new);
   }
 
   @Override
@@ -211,7 +531,7 @@ public int intValue(String name, int defaultValue) {
 
   @Override
   public DurationConfigProperty durationProperty(String name) {
-    return new DurationConfigPropertyImpl(name, propertyMap, propertyCallbackMap);
+    return computeProperty(name, Duration.class, DurationConfigPropertyImpl::new);
   }
 
   @Override
@@ -221,7 +541,12 @@ public Duration durationValue(String name, Duration defaultValue) {
 
   @Override
   public ListConfigProperty<String> stringListProperty(String name) {
-    return new ListConfigPropertyImpl<>(name, propertyMap, propertyCallbackMap, STRING_PARSER);
+    return computeProperty(
+        name,
+        ListConfigPropertyImpl.getListPropertyClass(STRING_PARSER),
+        (name1, propertyMap1, propertyCallbackIndex1) ->
+            new ListConfigPropertyImpl<>(
+                name1, propertyMap1, propertyCallbackIndex1, STRING_PARSER));
   }
 
   @Override
@@ -231,7 +556,12 @@ public List<String> stringListValue(String name, List<String> defaultValue) {
 
   @Override
   public ListConfigProperty<Double> doubleListProperty(String name) {
-    return new ListConfigPropertyImpl<>(name, propertyMap, propertyCallbackMap, DOUBLE_PARSER);
+    return computeProperty(
+        name,
+        ListConfigPropertyImpl.getListPropertyClass(DOUBLE_PARSER),
+        (name1, propertyMap1, propertyCallbackIndex1) ->
+            new ListConfigPropertyImpl<>(
+                name1, propertyMap1, propertyCallbackIndex1, DOUBLE_PARSER));
   }
 
   @Override
@@ -241,7 +571,11 @@ public List<Double> doubleListValue(String name, List<Double> defaultValue) {
 
   @Override
   public ListConfigProperty<Long> longListProperty(String name) {
-    return new ListConfigPropertyImpl<>(name, propertyMap, propertyCallbackMap, LONG_PARSER);
+    return computeProperty(
+        name,
+        ListConfigPropertyImpl.getListPropertyClass(LONG_PARSER),
+        (name1, propertyMap1, propertyCallbackIndex1) ->
+            new ListConfigPropertyImpl<>(name1, propertyMap1, propertyCallbackIndex1, LONG_PARSER));
   }
 
   @Override
@@ -251,7 +585,11 @@ public List<Long> longListValue(String name, List<Long> defaultValue) {
 
   @Override
   public ListConfigProperty<Integer> intListProperty(String name) {
-    return new ListConfigPropertyImpl<>(name, propertyMap, propertyCallbackMap, INT_PARSER);
+    return computeProperty(
+        name,
+        ListConfigPropertyImpl.getListPropertyClass(INT_PARSER),
+        (name1, propertyMap1, propertyCallbackIndex1) ->
+            new ListConfigPropertyImpl<>(name1, propertyMap1, propertyCallbackIndex1, INT_PARSER));
   }
 
   @Override
@@ -261,7 +599,12 @@ public List<Integer> intListValue(String name, List<Integer> defaultValue) {
 
   @Override
   public ListConfigProperty<Duration> durationListProperty(String name) {
-    return new ListConfigPropertyImpl<>(name, propertyMap, propertyCallbackMap, DURATION_PARSER);
+    return computeProperty(
+        name,
+        ListConfigPropertyImpl.getListPropertyClass(DURATION_PARSER),
+        (name1, propertyMap1, propertyCallbackIndex1) ->
+            new ListConfigPropertyImpl<>(
+                name1, propertyMap1, propertyCallbackIndex1, DURATION_PARSER));
   }
 
   @Override
@@ -271,7 +614,12 @@ public List<Duration> durationListValue(String name, List<Duration> defaultValue
 
   @Override
   public MultimapConfigProperty<String> stringMultimapProperty(String name) {
-    return new MultimapConfigPropertyImpl<>(name, propertyMap, propertyCallbackMap, STRING_PARSER);
+    return computeProperty(
+        name,
+        MultimapConfigPropertyImpl.getMapPropertyClass(STRING_PARSER),
+        (name1, propertyMap1, propertyCallbackIndex1) ->
+            new MultimapConfigPropertyImpl<>(
+                name1, propertyMap1, propertyCallbackIndex1, STRING_PARSER));
   }
 
   @Override
@@ -282,7 +630,12 @@ public Map<String, List<String>> stringMultimapValue(
 
   @Override
   public MultimapConfigProperty<Double> doubleMultimapProperty(String name) {
-    return new MultimapConfigPropertyImpl<>(name, propertyMap, propertyCallbackMap, DOUBLE_PARSER);
+    return computeProperty(
+        name,
+        MultimapConfigPropertyImpl.getMapPropertyClass(DOUBLE_PARSER),
+        (name1, propertyMap1, propertyCallbackIndex1) ->
+            new MultimapConfigPropertyImpl<>(
+                name1, propertyMap1, propertyCallbackIndex1, DOUBLE_PARSER));
   }
 
   @Override
@@ -293,7 +646,12 @@ public Map<String, List<Double>> doubleMultimapValue(
 
   @Override
   public MultimapConfigProperty<Long> longMultimapProperty(String name) {
-    return new MultimapConfigPropertyImpl<>(name, propertyMap, propertyCallbackMap, LONG_PARSER);
+    return computeProperty(
+        name,
+        MultimapConfigPropertyImpl.getMapPropertyClass(LONG_PARSER),
+        (name1, propertyMap1, propertyCallbackIndex1) ->
+            new MultimapConfigPropertyImpl<>(
+                name1, propertyMap1, propertyCallbackIndex1, LONG_PARSER));
   }
 
   @Override
@@ -304,7 +662,12 @@ public Map<String, List<Long>> longMultimapValue(
 
   @Override
   public MultimapConfigProperty<Integer> intMultimapProperty(String name) {
-    return new MultimapConfigPropertyImpl<>(name, propertyMap, propertyCallbackMap, INT_PARSER);
+    return computeProperty(
+        name,
+        MultimapConfigPropertyImpl.getMapPropertyClass(INT_PARSER),
+        (name1, propertyMap1, propertyCallbackIndex1) ->
+            new MultimapConfigPropertyImpl<>(
+                name1, propertyMap1, propertyCallbackIndex1, INT_PARSER));
   }
 
   @Override
@@ -315,8 +678,12 @@ public Map<String, List<Integer>> intMultimapValue(
 
   @Override
   public MultimapConfigProperty<Duration> durationMultimapProperty(String name) {
-    return new MultimapConfigPropertyImpl<>(
-        name, propertyMap, propertyCallbackMap, DURATION_PARSER);
+    return computeProperty(
+        name,
+        MultimapConfigPropertyImpl.getMapPropertyClass(DURATION_PARSER),
+        (name1, propertyMap1, propertyCallbackIndex1) ->
+            new MultimapConfigPropertyImpl<>(
+                name1, propertyMap1, propertyCallbackIndex1, DURATION_PARSER));
   }
 
   @Override
@@ -325,16 +692,30 @@ public Map<String, List<Duration>> durationMultimapValue(
     return durationMultimapProperty(name).value(defaultValue);
   }
 
+  @Override
+  public ConfigSnapshot snapshot() {
+    return configSnapshot;
+  }
+
+  @Override
+  public int keyId(String name) {
+    return keyIndex.register(Objects.requireNonNull(name, "name can't be null"));
+  }
+
+  private Map<String, LoadedConfigProperty> propertyMap() {
+    return configSnapshot.propertyMap();
+  }
+
   @Override
   public Set<String> allProperties() {
-    return propertyMap.values().stream()
+    return propertyMap().values().stream()
         .map(LoadedConfigProperty::name)
         .collect(Collectors.toSet());
   }
 
   @Override
   public Collection<ConfigPropertyInfo> getConfigProperties() {
-    return propertyMap.values().stream()
+    return propertyMap().values().stream()
         .map(
             property -> {
               ConfigPropertyInfo info = new ConfigPropertyInfo();
@@ -362,9 +743,13 @@ public Collection<ConfigSourceInfo> getConfigSources() {
       info.setPriorityOrder(priorityOrder);
       info.setConfigSourceString(configSource.toString());
 
+      long staleAgeMillis = configSourceStateMap.get(sourceName).staleAgeMillis();
       Integer status = configSourceStatusMap.get(sourceName);
       info.setHealthString(
-          Optional.ofNullable(status).map(i -> i == 1 ? "Error" : "Ok").orElse("Unknown"));
+          Optional.ofNullable(status)
+              .map(i -> i == 1 ? (staleAgeMillis > 0 ? "Stale" : "Error") : "Ok")
+              .orElse("Unknown"));
+      info.setStaleAgeMillis(staleAgeMillis);
 
       info.setHost(settings.getHost());
       result.add(info);
@@ -382,102 +767,234 @@ public ConfigRegistrySettings getSettings() {
     return settings;
   }
 
-  private void loadAndNotify() {
-    // calculate new load map
-    Map<String, LoadedConfigProperty> loadedPropertyMap = new ConcurrentHashMap<>();
+  @Override
+  public CallbackDispatcherInfo getCallbackDispatcherInfo() {
+    return callbackDispatcher.getInfo();
+  }
+
+  @Override
+  public CompletableFuture<ConfigRegistry> ready() {
+    return readyFuture;
+  }
+
+  /**
+   * Closes config registry: cancels scheduled reloads, unregisters JMX MBean, then, once reload in
+   * progress (if any) completes, shuts down executors and closes config sources and listeners
+   * which hold resources (the ones implementing {@link AutoCloseable}). Config properties keep
+   * their last values. Closing config registry second time has no effect.
+   */
+  @Override
+  public void close() {
+    if (!closed.compareAndSet(false, true)) {
+      return;
+    }
+    if (jmxMBeanRegistered) {
+      unregisterJmxMBean();
+    }
+    // queued after reload in progress, while periodic and debounced reloads are cancelled
+    reloadExecutor.execute(this::releaseResources);
+    reloadExecutor.shutdown();
+    LOGGER.debug("[close] Config registry is closed");
+  }
 
-    // load config from sources
-    Map<String, ConfigSource> sources = settings.getSources();
-    for (String sourceName : sources.keySet()) {
-      ConfigSource source = sources.get(sourceName);
+  private void releaseResources() {
+    sourceLoadExecutor.shutdown();
+    callbackDispatcher.shutdown();
+    settings.getSources().forEach(ConfigRegistryImpl::closeQuietly);
+    settings.getListeners().forEach(ConfigRegistryImpl::closeQuietly);
+    readyFuture.completeExceptionally(new IllegalStateException("Config registry is closed"));
+  }
 
-      final Map<String, ConfigProperty> configMap;
-      Throwable error = null;
+  private static void closeQuietly(String name, Object resource) {
+    if (resource instanceof AutoCloseable) {
       try {
-        configMap = source.loadConfig();
+        ((AutoCloseable) resource).close();
       } catch (Exception e) {
-        error = e;
-        throw ThrowableUtil.propagate(e);
-      } finally {
-        computeConfigLoadStatus(sourceName, error);
+        LOGGER.warn("[close][{}] Exception occurred, cause: {}", name, e.toString());
       }
+    }
+  }
 
-      // populate loaded properties with new field 'source'
-      configMap.forEach(
-          (key, configProperty) ->
-              loadedPropertyMap.putIfAbsent(
-                  key,
-                  LoadedConfigProperty.withCopyFrom(configProperty).source(sourceName).build()));
+  void loadAndNotify() {
+    loadAndNotify(configSourceStateMap.keySet());
+  }
+
+  /**
+   * Reloads given config sources (see {@link #reload(Collection)}) and completes {@link #ready()}
+   * once all config sources have been loaded, or at least attempted to in stale-tolerant mode.
+   *
+   * @param sourceNames names of config sources to reload
+   */
+  private void loadAndNotify(Collection<String> sourceNames) {
+    reload(sourceNames);
+    if (!readyFuture.isDone() && (settings.isStaleSourcesTolerated() || isAllSourcesLoaded())) {
+      readyFuture.complete(this);
     }
+  }
 
-    List<ConfigEvent> detectedChanges = new ArrayList<>();
+  /**
+   * Reloads given config sources, then merges properties of all config sources (the ones not
+   * reloaded contribute properties of their last load) and notifies about changes.
+   *
+   * @param sourceNames names of config sources to reload
+   */
+  private void reload(Collection<String> sourceNames) {
+    if (settings.isWeakPropertyReferences()) {
+      purgeReleasedProperties();
+    }
 
-    if (propertyMap == null) {
-      for (String propName : loadedPropertyMap.keySet()) {
-        ConfigProperty newProp = loadedPropertyMap.get(propName); // not null
-        // collect changes
-        detectedChanges.add(ConfigEvent.createAdded(propName, settings.getHost(), newProp));
+    boolean staleSourcesTolerated = settings.isStaleSourcesTolerated();
+
+    // load config from sources concurrently, skipping the ones which report no changes
+    Map<String, CompletableFuture<Void>> reloads = new LinkedHashMap<>();
+    for (String sourceName : sourceNames) {
+      ConfigSourceState state = configSourceStateMap.get(sourceName);
+      if (!staleSourcesTolerated || !state.isBackingOff()) {
+        reloads.put(sourceName, state.reloadAsync(sourceLoadExecutor));
       }
-    } else {
-      // Check property updates
-      Set<String> keySet1 = propertyMap.keySet();
-      Set<String> keySet2 = loadedPropertyMap.keySet();
-
-      Set<String> updatedProps =
-          Stream.concat(keySet1.stream(), keySet2.stream())
-              .filter(keySet1::contains)
-              .filter(keySet2::contains)
-              .collect(Collectors.toSet());
-
-      for (String propName : updatedProps) {
-        ConfigProperty newProp = loadedPropertyMap.get(propName); // not null
-        ConfigProperty oldProp = propertyMap.get(propName); // not null
-        // collect changes
-        detectedChanges.add(
-            ConfigEvent.createUpdated(propName, settings.getHost(), oldProp, newProp));
+    }
+
+    long startTime = System.nanoTime();
+    Throwable firstError = null;
+    for (Map.Entry<String, CompletableFuture<Void>> entry : reloads.entrySet()) {
+      String sourceName = entry.getKey();
+      ConfigSourceState state = configSourceStateMap.get(sourceName);
+      Throwable error = awaitReload(sourceName, entry.getValue(), startTime);
+      computeConfigLoadStatus(sourceName, error);
+      if (error == null) {
+        state.reloadSucceeded();
+      } else {
+        state.reloadFailed();
+        if (firstError == null && !staleSourcesTolerated) {
+          firstError = error;
+        }
       }
+    }
+    if (firstError != null) {
+      throw ThrowableUtil.propagate(firstError);
+    }
+
+    boolean sourcesChanged =
+        configSourceStateMap.values().stream().anyMatch(ConfigSourceState::isChanged);
+
+    ConfigSnapshotImpl oldSnapshot = configSnapshot;
+
+    if (oldSnapshot != null && !sourcesChanged) {
+      return; // nothing changed, keep current load map
+    }
+
+    Map<String, LoadedConfigProperty> oldPropertyMap =
+        oldSnapshot != null ? oldSnapshot.propertyMap() : Collections.emptyMap();
+
+    // calculate new load map, unchanged properties are carried over from the old one
+    Map<String, LoadedConfigProperty> loadedPropertyMap =
+        new HashMap<>(Math.max(16, (int) (oldPropertyMap.size() / .75f) + 1));
+
+    List<ConfigEvent> detectedChanges = new ArrayList<>();
+    int keptPropertiesNum = 0;
+
+    for (Map.Entry<String, ConfigSourceState> sourceEntry : configSourceStateMap.entrySet()) {
+      String sourceName = sourceEntry.getKey();
+      Map<String, ConfigProperty> configMap = sourceEntry.getValue().mergeConfigMap();
+
+      for (Map.Entry<String, ConfigProperty> entry : configMap.entrySet()) {
+        String propName = entry.getKey();
+        if (loadedPropertyMap.containsKey(propName)) {
+          continue; // property is already taken from the source with higher priority
+        }
+
+        ConfigProperty configProperty = entry.getValue();
+        LoadedConfigProperty oldProp = oldPropertyMap.get(propName);
 
-      // Checks for removals
-      Set<String> removedProps =
-          keySet1.stream().filter(o -> !keySet2.contains(o)).collect(Collectors.toSet());
-      for (String propName : removedProps) {
-        ConfigProperty oldProp = propertyMap.get(propName);
         if (oldProp != null) {
-          // collect changes
-          detectedChanges.add(ConfigEvent.createRemoved(propName, settings.getHost(), oldProp));
+          keptPropertiesNum++;
+          if (isSameProperty(oldProp, configProperty, sourceName)) {
+            loadedPropertyMap.put(propName, oldProp);
+            continue;
+          }
         }
-      }
 
-      // Check for new properties
-      Set<String> addedProps =
-          keySet2.stream().filter(o -> !keySet1.contains(o)).collect(Collectors.toSet());
-      for (String propName : addedProps) {
-        ConfigProperty newProp = loadedPropertyMap.get(propName); // not null
+        // populate loaded property with new field 'source'
+        LoadedConfigProperty newProp =
+            LoadedConfigProperty.withCopyFrom(configProperty).source(sourceName).build();
+        loadedPropertyMap.put(propName, newProp);
+
         // collect changes
-        detectedChanges.add(ConfigEvent.createAdded(propName, settings.getHost(), newProp));
+        detectedChanges.add(
+            oldProp != null
+                ? ConfigEvent.createUpdated(propName, settings.getHost(), oldProp, newProp)
+                : ConfigEvent.createAdded(propName, settings.getHost(), newProp));
       }
     }
 
+    // checks for removals, only if not all of old properties were found among loaded ones
+    if (keptPropertiesNum < oldPropertyMap.size()) {
+      for (Map.Entry<String, LoadedConfigProperty> entry : oldPropertyMap.entrySet()) {
+        if (!loadedPropertyMap.containsKey(entry.getKey())) {
+          detectedChanges.add(
+              ConfigEvent.createRemoved(entry.getKey(), settings.getHost(), entry.getValue()));
+        }
+      }
+    }
+
+    if (oldSnapshot != null && detectedChanges.isEmpty()) {
+      return; // nothing changed, keep current load map
+    }
+
     // reset loaded
-    propertyMap = loadedPropertyMap;
+    configSnapshot =
+        oldSnapshot != null
+            ? oldSnapshot.next(loadedPropertyMap, detectedChanges)
+            : new ConfigSnapshotImpl(1, loadedPropertyMap, keyIndex);
+
+    Path snapshotFile = settings.getSnapshotFile();
+    if (snapshotFile != null && isAllSourcesLoaded()) {
+      saveSnapshot(snapshotFile, loadedPropertyMap);
+    }
 
     detectedChanges.forEach(input -> recentConfigEvents.put(input, null)); // keep recent changes
 
-    reportChanges(
-        detectedChanges.stream().filter(ConfigEvent::isChanged).collect(Collectors.toList()));
+    reportChanges(detectedChanges);
+
+    // re-compute values and invoke callbacks, each callback once
+    long reload = ++reloadCount;
+    for (ConfigEvent event : detectedChanges) {
+      for (PropertyCallback propertyCallback : propertyCallbackIndex.get(event.getName())) {
+        if (propertyCallback.markReload(reload)) {
+          propertyCallback.computeValue(loadedPropertyMap, callbackDispatcher);
+        }
+      }
+    }
+  }
+
+  private boolean isAllSourcesLoaded() {
+    return configSourceStateMap.keySet().stream()
+        .allMatch(sourceName -> Integer.valueOf(0).equals(configSourceStatusMap.get(sourceName)));
+  }
+
+  private Throwable awaitReload(
+      String sourceName, CompletableFuture<Void> reload, long startTime) {
+    Duration timeout = settings.getSourceLoadTimeout(sourceName);
+    long remainingTime = timeout.toNanos() - (System.nanoTime() - startTime);
+    try {
+      reload.get(Math.max(0, remainingTime), TimeUnit.NANOSECONDS);
+      return null;
+    } catch (ExecutionException e) {
+      return e.getCause();
+    } catch (TimeoutException e) {
+      return new ConfigSourceNotAvailableException(
+          String.format("Config source not loaded within '%s' millis", timeout.toMillis()), e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return e;
+    }
+  }
 
-    // re-compute values and invoke callbacks
-    detectedChanges.stream()
-        .filter(event -> propertyCallbackMap.containsKey(event.getName()))
-        .flatMap(
-            event ->
-                propertyCallbackMap.get(event.getName()).values().stream()
-                    .map(callback -> new SimpleImmutableEntry<>(callback, event)))
-        .collect(
-            Collectors.groupingBy(
-                SimpleImmutableEntry::getKey,
-                Collectors.mapping(SimpleImmutableEntry::getValue, Collectors.toList())))
-        .forEach(PropertyCallback::computeValue);
+  private static boolean isSameProperty(
+      LoadedConfigProperty oldProp, ConfigProperty configProperty, String sourceName) {
+    return sourceName.equals(oldProp.source().orElse(null))
+        && Objects.equals(oldProp.valueAsString(null), configProperty.valueAsString(null))
+        && Objects.equals(oldProp.origin().orElse(null), configProperty.origin().orElse(null));
   }
 
   private void reportChanges(Collection<ConfigEvent> events) {
@@ -511,4 +1028,14 @@ private void computeConfigLoadStatus(String sourceName, Throwable throwable) {
       }
     }
   }
+
+  @FunctionalInterface
+  @SuppressWarnings("rawtypes")
+  private interface PropertyFactory<P extends ConfigProperty> {
+
+    P newProperty(
+        String name,
+        Supplier<Map<String, LoadedConfigProperty>> propertyMapSupplier,
+        PropertyCallbackIndex propertyCallbackIndex);
+  }
 }
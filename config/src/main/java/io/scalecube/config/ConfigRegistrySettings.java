@@ -1,13 +1,23 @@
 package io.scalecube.config;
 
 import io.scalecube.config.audit.ConfigEventListener;
+import io.scalecube.config.source.ClassPathConfigSource;
+import io.scalecube.config.source.ConfigBundleConfigSource;
 import io.scalecube.config.source.ConfigSource;
+import io.scalecube.config.source.SystemEnvironmentConfigSource;
+import io.scalecube.config.source.SystemEnvironmentSingleVariableConfigSource;
+import io.scalecube.config.source.SystemEnvironmentVariablesConfigSource;
+import io.scalecube.config.source.SystemPropertiesConfigSource;
+import io.scalecube.config.utils.ExecutorStrategy;
 import java.net.InetAddress;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.Objects;
 import java.util.StringJoiner;
 
 /**
@@ -21,14 +31,28 @@ public final class ConfigRegistrySettings {
   public static final int DEFAULT_RECENT_EVENTS_NUM = 30;
   public static final boolean DEFAULT_JMX_ENABLED = true;
   public static final String DEFAULT_JMX_MBEAN_NAME = "io.scalecube.config:name=ConfigRegistry";
+  public static final boolean DEFAULT_WEAK_PROPERTY_REFERENCES = false;
+  public static final Duration DEFAULT_SOURCE_LOAD_TIMEOUT = Duration.ofSeconds(30);
+  public static final boolean DEFAULT_STALE_SOURCES_TOLERATED = false;
+  public static final Duration DEFAULT_RELOAD_DEBOUNCE = Duration.ofMillis(100);
+  public static final int DEFAULT_CALLBACK_DISPATCH_THREADS = 0;
 
   private final Map<String, ConfigSource> sources;
+  private final Map<String, Integer> sourceReloadIntervals;
+  private final Duration sourceLoadTimeout;
+  private final Map<String, Duration> sourceLoadTimeouts;
+  private final boolean staleSourcesTolerated;
+  private final Duration reloadDebounce;
+  private final Path snapshotFile;
+  private final int callbackDispatchThreads;
+  private final ExecutorStrategy executorStrategy;
   private final String host;
   private final int reloadIntervalSec;
   private final int recentConfigEventsNum;
   private final Map<String, ConfigEventListener> listeners;
   private final boolean jmxEnabled;
   private final String jmxMBeanName;
+  private final boolean weakPropertyReferences;
 
   private ConfigRegistrySettings(Builder builder) {
     Map<String, ConfigSource> sourcesTmp = new LinkedHashMap<>(builder.sources.size());
@@ -36,12 +60,42 @@ private ConfigRegistrySettings(Builder builder) {
       sourcesTmp.put(name, builder.sources.get(name));
     }
     this.sources = Collections.unmodifiableMap(sourcesTmp);
+    Map<String, Integer> sourceReloadIntervalsTmp = new LinkedHashMap<>(sourcesTmp.size());
+    sourcesTmp.forEach(
+        (name, source) ->
+            sourceReloadIntervalsTmp.put(
+                name,
+                builder.sourceReloadIntervals.getOrDefault(
+                    name, isStaticSource(source) ? Integer.MAX_VALUE : builder.reloadIntervalSec)));
+    this.sourceReloadIntervals = Collections.unmodifiableMap(sourceReloadIntervalsTmp);
+    this.sourceLoadTimeout = builder.sourceLoadTimeout;
+    this.sourceLoadTimeouts =
+        Collections.unmodifiableMap(new HashMap<>(builder.sourceLoadTimeouts));
+    this.staleSourcesTolerated = builder.staleSourcesTolerated;
+    this.reloadDebounce = builder.reloadDebounce;
+    this.snapshotFile = builder.snapshotFile;
+    this.callbackDispatchThreads = builder.callbackDispatchThreads;
+    this.executorStrategy = builder.executorStrategy;
     this.host = builder.host != null ? builder.host : resolveLocalHost();
     this.reloadIntervalSec = builder.reloadIntervalSec;
     this.recentConfigEventsNum = builder.recentConfigEventsNum;
     this.listeners = Collections.unmodifiableMap(new HashMap<>(builder.listeners));
     this.jmxEnabled = builder.jmxEnabled;
     this.jmxMBeanName = builder.jmxMBeanName;
+    this.weakPropertyReferences = builder.weakPropertyReferences;
+  }
+
+  /**
+   * Returns whether given config source never changes its properties once loaded, so that there
+   * is no point to reload it.
+   */
+  private static boolean isStaticSource(ConfigSource source) {
+    return source instanceof ClassPathConfigSource
+        || source instanceof ConfigBundleConfigSource
+        || source instanceof SystemEnvironmentConfigSource
+        || source instanceof SystemEnvironmentVariablesConfigSource
+        || source instanceof SystemEnvironmentSingleVariableConfigSource
+        || source instanceof SystemPropertiesConfigSource;
   }
 
   private static String resolveLocalHost() {
@@ -64,6 +118,22 @@ public boolean isReloadEnabled() {
     return reloadIntervalSec != Integer.MAX_VALUE;
   }
 
+  /**
+   * Returns reload interval of the given config source. Unless set explicitly, it's {@link
+   * #getReloadIntervalSec()} for all config sources except classpath, system properties and
+   * environment ones, which are never reloaded.
+   *
+   * @param sourceName source alias name
+   * @return reload interval in seconds, {@link Integer#MAX_VALUE} if source is not reloaded
+   */
+  public int getReloadIntervalSec(String sourceName) {
+    return sourceReloadIntervals.get(sourceName);
+  }
+
+  public boolean isReloadEnabled(String sourceName) {
+    return getReloadIntervalSec(sourceName) != Integer.MAX_VALUE;
+  }
+
   public int getRecentConfigEventsNum() {
     return recentConfigEventsNum;
   }
@@ -76,6 +146,51 @@ public Map<String, ConfigSource> getSources() {
     return sources;
   }
 
+  /**
+   * Returns how long config registry waits for the given config source to load on reload.
+   *
+   * @param sourceName source alias name
+   * @return source load timeout
+   */
+  public Duration getSourceLoadTimeout(String sourceName) {
+    return sourceLoadTimeouts.getOrDefault(sourceName, sourceLoadTimeout);
+  }
+
+  public boolean isStaleSourcesTolerated() {
+    return staleSourcesTolerated;
+  }
+
+  public Duration getReloadDebounce() {
+    return reloadDebounce;
+  }
+
+  /**
+   * Returns file where config registry keeps snapshot of its config properties.
+   *
+   * @return snapshot file, or null if snapshot is not kept
+   */
+  public Path getSnapshotFile() {
+    return snapshotFile;
+  }
+
+  /**
+   * Returns number of threads config property callbacks are invoked on.
+   *
+   * @return number of callback dispatcher threads, zero if callbacks are invoked on reload thread
+   */
+  public int getCallbackDispatchThreads() {
+    return callbackDispatchThreads;
+  }
+
+  /**
+   * Returns strategy of creating executors config sources are loaded and callbacks are invoked on.
+   *
+   * @return executor strategy
+   */
+  public ExecutorStrategy getExecutorStrategy() {
+    return executorStrategy;
+  }
+
   public String getHost() {
     return host;
   }
@@ -88,28 +203,50 @@ public String getJmxMBeanName() {
     return jmxMBeanName;
   }
 
+  public boolean isWeakPropertyReferences() {
+    return weakPropertyReferences;
+  }
+
   @Override
   public String toString() {
     return new StringJoiner(", ", ConfigRegistrySettings.class.getSimpleName() + "[", "]")
         .add("sources=" + sources)
+        .add("sourceReloadIntervals=" + sourceReloadIntervals)
+        .add("sourceLoadTimeout=" + sourceLoadTimeout)
+        .add("sourceLoadTimeouts=" + sourceLoadTimeouts)
+        .add("staleSourcesTolerated=" + staleSourcesTolerated)
+        .add("reloadDebounce=" + reloadDebounce)
+        .add("snapshotFile=" + snapshotFile)
+        .add("callbackDispatchThreads=" + callbackDispatchThreads)
+        .add("executorStrategy=" + executorStrategy)
         .add("host='" + host + "'")
         .add("reloadIntervalSec=" + reloadIntervalSec)
         .add("recentConfigEventsNum=" + recentConfigEventsNum)
         .add("listeners=" + listeners)
         .add("jmxEnabled=" + jmxEnabled)
         .add("jmxMBeanName='" + jmxMBeanName + "'")
+        .add("weakPropertyReferences=" + weakPropertyReferences)
         .toString();
   }
 
   public static class Builder {
     private final LinkedList<String> sourceOrder = new LinkedList<>();
     private final Map<String, ConfigSource> sources = new HashMap<>();
+    private final Map<String, Integer> sourceReloadIntervals = new HashMap<>();
+    private Duration sourceLoadTimeout = DEFAULT_SOURCE_LOAD_TIMEOUT;
+    private final Map<String, Duration> sourceLoadTimeouts = new HashMap<>();
+    private boolean staleSourcesTolerated = DEFAULT_STALE_SOURCES_TOLERATED;
+    private Duration reloadDebounce = DEFAULT_RELOAD_DEBOUNCE;
+    private Path snapshotFile;
+    private int callbackDispatchThreads = DEFAULT_CALLBACK_DISPATCH_THREADS;
+    private ExecutorStrategy executorStrategy = ExecutorStrategy.platformThreads();
     private final String host = null;
     private int reloadIntervalSec = DEFAULT_RELOAD_PERIOD_SEC;
     private int recentConfigEventsNum = DEFAULT_RECENT_EVENTS_NUM;
     private final Map<String, ConfigEventListener> listeners = new HashMap<>();
     private boolean jmxEnabled = DEFAULT_JMX_ENABLED;
     private String jmxMBeanName = DEFAULT_JMX_MBEAN_NAME;
+    private boolean weakPropertyReferences = DEFAULT_WEAK_PROPERTY_REFERENCES;
 
     private Builder() {}
 
@@ -119,10 +256,40 @@ public Builder noReload() {
     }
 
     public Builder reloadIntervalSec(int reloadPeriodSec) {
+      if (reloadPeriodSec <= 0) {
+        throw new IllegalArgumentException("reloadIntervalSec must be positive");
+      }
       this.reloadIntervalSec = reloadPeriodSec;
       return this;
     }
 
+    /**
+     * Turns off reloading of the given config source.
+     *
+     * @param name source alias name
+     * @return builder instance
+     */
+    public Builder noReload(String name) {
+      sourceReloadIntervals.put(name, Integer.MAX_VALUE);
+      return this;
+    }
+
+    /**
+     * Sets reload interval of the given config source, overriding the common one.
+     *
+     * @param name source alias name
+     * @param reloadPeriodSec reload interval in seconds, must be positive (see {@link
+     *     #noReload(String)} to turn reloading off)
+     * @return builder instance
+     */
+    public Builder reloadIntervalSec(String name, int reloadPeriodSec) {
+      if (reloadPeriodSec <= 0) {
+        throw new IllegalArgumentException("reloadIntervalSec must be positive");
+      }
+      sourceReloadIntervals.put(name, reloadPeriodSec);
+      return this;
+    }
+
     public Builder keepRecentConfigEvents(int recentConfigEventsNum) {
       this.recentConfigEventsNum = recentConfigEventsNum;
       return this;
@@ -174,6 +341,108 @@ public Builder addBeforeSource(String beforeName, String name, ConfigSource conf
       return this;
     }
 
+    /**
+     * Sets how long config registry waits for config sources to load on reload, unless overridden
+     * for particular source. Config sources are loaded concurrently, so reload takes as long as the
+     * slowest source, but not longer than this timeout.
+     *
+     * @param sourceLoadTimeout source load timeout
+     * @return builder instance
+     */
+    public Builder sourceLoadTimeout(Duration sourceLoadTimeout) {
+      this.sourceLoadTimeout = Objects.requireNonNull(sourceLoadTimeout);
+      return this;
+    }
+
+    /**
+     * Sets how long config registry waits for the given config source to load on reload.
+     *
+     * @param name source alias name
+     * @param sourceLoadTimeout source load timeout
+     * @return builder instance
+     */
+    public Builder sourceLoadTimeout(String name, Duration sourceLoadTimeout) {
+      sourceLoadTimeouts.put(name, Objects.requireNonNull(sourceLoadTimeout));
+      return this;
+    }
+
+    /**
+     * Turns on stale-tolerant mode: config source which failed to load (or didn't load in time)
+     * doesn't fail the reload, instead its properties from the last successful load are used and
+     * changes of other config sources keep being applied. Failing config source is retried less
+     * often after consecutive failures. A config source which never loaded contributes no
+     * properties.
+     *
+     * @param staleSourcesTolerated stale-tolerant mode flag
+     * @return builder instance
+     */
+    public Builder tolerateStaleSources(boolean staleSourcesTolerated) {
+      this.staleSourcesTolerated = staleSourcesTolerated;
+      return this;
+    }
+
+    /**
+     * Sets delay between change notification of config source and its reload. Notifications which
+     * come during the delay don't cause additional reloads.
+     *
+     * @param reloadDebounce reload delay
+     * @return builder instance
+     * @see ConfigSource#subscribe(Runnable)
+     */
+    public Builder reloadDebounce(Duration reloadDebounce) {
+      this.reloadDebounce = Objects.requireNonNull(reloadDebounce);
+      return this;
+    }
+
+    /**
+     * Turns on snapshot of config properties: after each reload where all config sources loaded
+     * successfully, config registry saves its config properties to the given file. On start, if
+     * the file exists, config registry starts with config properties from it right away and loads
+     * config sources in background; until then, config sources which fail to load keep serving
+     * their properties from the snapshot.
+     *
+     * @param snapshotFile snapshot file
+     * @return builder instance
+     */
+    public Builder snapshotFile(Path snapshotFile) {
+      this.snapshotFile = Objects.requireNonNull(snapshotFile);
+      return this;
+    }
+
+    /**
+     * Sets number of threads config property callbacks are invoked on. By default callbacks are
+     * invoked on reload thread one by one, so that slow callback delays others and the next
+     * reload. With dispatcher threads, each callback gets changes on its own: changes which come
+     * while callback is still busy are coalesced, and callback receives only the latest value.
+     *
+     * <p>With {@link ExecutorStrategy#virtualThreads()} strategy each callback delivery gets its
+     * own virtual thread, and the number only turns dispatching on.
+     *
+     * @param callbackDispatchThreads number of threads, zero to invoke callbacks on reload thread
+     * @return builder instance
+     */
+    public Builder callbackDispatchThreads(int callbackDispatchThreads) {
+      if (callbackDispatchThreads < 0) {
+        throw new IllegalArgumentException("callbackDispatchThreads must not be negative");
+      }
+      this.callbackDispatchThreads = callbackDispatchThreads;
+      return this;
+    }
+
+    /**
+     * Sets strategy of creating executors config sources are loaded and config property callbacks
+     * are invoked on. Default is {@link ExecutorStrategy#platformThreads()}; on JDK 21+ {@link
+     * ExecutorStrategy#virtualThreads()} lets blocking source loads and slow callbacks run without
+     * holding platform threads.
+     *
+     * @param executorStrategy executor strategy
+     * @return builder instance
+     */
+    public Builder executorStrategy(ExecutorStrategy executorStrategy) {
+      this.executorStrategy = Objects.requireNonNull(executorStrategy);
+      return this;
+    }
+
     public Builder jmxEnabled(boolean jmxEnabled) {
       this.jmxEnabled = jmxEnabled;
       return this;
@@ -184,6 +453,20 @@ public Builder jmxMBeanName(String jmxMBeanName) {
       return this;
     }
 
+    /**
+     * Turns on weak references mode: config registry doesn't keep config property instances it
+     * created alive, they are garbage collected once application drops them (together with their
+     * callbacks and validators) and are forgotten by config registry on next reload. Suits
+     * applications which create short-lived config properties, e.g. per request or per tenant.
+     *
+     * @param weakPropertyReferences weak references mode flag
+     * @return builder instance
+     */
+    public Builder weakPropertyReferences(boolean weakPropertyReferences) {
+      this.weakPropertyReferences = weakPropertyReferences;
+      return this;
+    }
+
     public ConfigRegistrySettings build() {
       return new ConfigRegistrySettings(this);
     }
@@ -0,0 +1,168 @@
+package io.scalecube.config;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Immutable view of all config properties loaded by config registry at some moment. Config
+ * registry replaces its snapshot as a whole on each reload which changes anything, so values read
+ * from one snapshot are always consistent with each other, unlike values of separate config
+ * properties which are updated one by one:
+ *
+ * <pre>
+ * ConfigSnapshot snapshot = configRegistry.snapshot();
+ * String host = snapshot.stringValue("db.host", "localhost");
+ * int port = snapshot.intValue("db.port", 5432);
+ * </pre>
+ *
+ * <p>Hot lookups may use key ids (see {@link ConfigRegistry#keyId(String)}) instead of property
+ * names: value of a key registered before snapshot was created is one array load away, and typed
+ * values are parsed once per snapshot.
+ *
+ * @see ConfigRegistry#snapshot()
+ */
+public interface ConfigSnapshot {
+
+  /**
+   * Returns generation of this snapshot. Generation is incremented each time config registry
+   * replaces its snapshot, hence snapshots with equal generations have equal content.
+   *
+   * @return snapshot generation
+   */
+  long generation();
+
+  /**
+   * Returns names of all config properties in this snapshot.
+   *
+   * @return set of property names
+   */
+  Set<String> names();
+
+  /**
+   * Returns config property of the given name.
+   *
+   * @param name property name
+   * @return optional config property, with value, source and origin
+   */
+  Optional<ConfigProperty> property(String name);
+
+  /**
+   * Returns value of config property.
+   *
+   * @param name property name
+   * @param defaultValue default value
+   * @return property value or default
+   */
+  String stringValue(String name, String defaultValue);
+
+  /**
+   * Returns value of config property parsed as int.
+   *
+   * @param name property name
+   * @param defaultValue default value
+   * @return property value or default
+   * @throws IllegalArgumentException if property value can't be parsed
+   */
+  int intValue(String name, int defaultValue);
+
+  /**
+   * Returns value of config property parsed as long.
+   *
+   * @param name property name
+   * @param defaultValue default value
+   * @return property value or default
+   * @throws IllegalArgumentException if property value can't be parsed
+   */
+  long longValue(String name, long defaultValue);
+
+  /**
+   * Returns value of config property parsed as double.
+   *
+   * @param name property name
+   * @param defaultValue default value
+   * @return property value or default
+   * @throws IllegalArgumentException if property value can't be parsed
+   */
+  double doubleValue(String name, double defaultValue);
+
+  /**
+   * Returns value of config property parsed as boolean.
+   *
+   * @param name property name
+   * @param defaultValue default value
+   * @return property value or default
+   */
+  boolean booleanValue(String name, boolean defaultValue);
+
+  /**
+   * Returns value of config property parsed as java8 duration, see {@link
+   * ConfigRegistry#durationValue(String, Duration)}.
+   *
+   * @param name property name
+   * @param defaultValue default value
+   * @return property value or default
+   * @throws IllegalArgumentException if property value can't be parsed
+   */
+  Duration durationValue(String name, Duration defaultValue);
+
+  /**
+   * Returns value of config property by its key id.
+   *
+   * @param keyId key id, see {@link ConfigRegistry#keyId(String)}
+   * @param defaultValue default value
+   * @return property value or default
+   * @throws IllegalArgumentException if key id is unknown
+   */
+  String stringValue(int keyId, String defaultValue);
+
+  /**
+   * Returns value of config property by its key id, parsed as int.
+   *
+   * @param keyId key id, see {@link ConfigRegistry#keyId(String)}
+   * @param defaultValue default value
+   * @return property value or default
+   * @throws IllegalArgumentException if key id is unknown or property value can't be parsed
+   */
+  int intValue(int keyId, int defaultValue);
+
+  /**
+   * Returns value of config property by its key id, parsed as long.
+   *
+   * @param keyId key id, see {@link ConfigRegistry#keyId(String)}
+   * @param defaultValue default value
+   * @return property value or default
+   * @throws IllegalArgumentException if key id is unknown or property value can't be parsed
+   */
+  long longValue(int keyId, long defaultValue);
+
+  /**
+   * Returns value of config property by its key id, parsed as double.
+   *
+   * @param keyId key id, see {@link ConfigRegistry#keyId(String)}
+   * @param defaultValue default value
+   * @return property value or default
+   * @throws IllegalArgumentException if key id is unknown or property value can't be parsed
+   */
+  double doubleValue(int keyId, double defaultValue);
+
+  /**
+   * Returns value of config property by its key id, parsed as boolean.
+   *
+   * @param keyId key id, see {@link ConfigRegistry#keyId(String)}
+   * @param defaultValue default value
+   * @return property value or default
+   * @throws IllegalArgumentException if key id is unknown
+   */
+  boolean booleanValue(int keyId, boolean defaultValue);
+
+  /**
+   * Returns value of config property by its key id, parsed as java8 duration.
+   *
+   * @param keyId key id, see {@link ConfigRegistry#keyId(String)}
+   * @param defaultValue default value
+   * @return property value or default
+   * @throws IllegalArgumentException if key id is unknown or property value can't be parsed
+   */
+  Duration durationValue(int keyId, Duration defaultValue);
+}
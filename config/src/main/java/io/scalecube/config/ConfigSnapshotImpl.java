@@ -0,0 +1,226 @@
+package io.scalecube.config;
+
+import io.scalecube.config.audit.ConfigEvent;
+import io.scalecube.config.source.LoadedConfigProperty;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Implementation of {@link ConfigSnapshot}. Wraps loaded properties map of config registry, which
+ * is never modified once published. Values of property names registered in {@link ConfigKeyIndex}
+ * are also kept in flat array indexed by key id, so that lookups by key id don't hash strings;
+ * values parsed by typed accessors are cached in another array. Both arrays grow on the first
+ * lookup of a key id registered after the snapshot was created.
+ */
+final class ConfigSnapshotImpl implements ConfigSnapshot {
+
+  private final long generation;
+  private final Map<String, LoadedConfigProperty> propertyMap;
+  private final ConfigKeyIndex keyIndex;
+  // by key id, replaced with longer copy when keys get registered; parsed values array is replaced
+  // first, so that it's never shorter than values array read before it
+  private volatile String[] values;
+  private volatile Object[] parsedValues; // filled lazily with immutable parsed values
+
+  ConfigSnapshotImpl(
+      long generation, Map<String, LoadedConfigProperty> propertyMap, ConfigKeyIndex keyIndex) {
+    this(generation, propertyMap, keyIndex, new String[0]);
+    grow();
+  }
+
+  private ConfigSnapshotImpl(
+      long generation,
+      Map<String, LoadedConfigProperty> propertyMap,
+      ConfigKeyIndex keyIndex,
+      String[] values) {
+    this.generation = generation;
+    this.propertyMap = propertyMap;
+    this.keyIndex = keyIndex;
+    this.values = values;
+    this.parsedValues = new Object[values.length];
+  }
+
+  /**
+   * Returns snapshot which follows this one with the given loaded properties. Values array is
+   * copied from this snapshot and updated for changed properties and for property names registered
+   * since this snapshot was created.
+   *
+   * @param propertyMap loaded properties
+   * @param changes changes of loaded properties since this snapshot
+   * @return snapshot of the next generation
+   */
+  ConfigSnapshotImpl next(
+      Map<String, LoadedConfigProperty> propertyMap, Collection<ConfigEvent> changes) {
+    String[] values = this.values;
+    ConfigSnapshotImpl snapshot =
+        new ConfigSnapshotImpl(
+            generation + 1, propertyMap, keyIndex, Arrays.copyOf(values, keyIndex.size()));
+    String[] newValues = snapshot.values;
+    for (ConfigEvent change : changes) {
+      int keyId = keyIndex.keyId(change.getName());
+      if (keyId >= 0 && keyId < values.length) {
+        newValues[keyId] = snapshot.valueOf(change.getName());
+      }
+    }
+    for (int keyId = values.length; keyId < newValues.length; keyId++) {
+      newValues[keyId] = snapshot.valueOf(keyIndex.name(keyId));
+    }
+    return snapshot;
+  }
+
+  /**
+   * Returns values array which has the given key id, grows it if key id has been registered since
+   * the array was filled.
+   *
+   * @param keyId key id
+   * @return values array
+   * @throws IllegalArgumentException if key id is not assigned
+   */
+  private String[] values(int keyId) {
+    String[] values = this.values;
+    if (keyId >= 0 && keyId < values.length) {
+      return values;
+    }
+    if (keyId < 0 || keyId >= keyIndex.size()) {
+      throw new IllegalArgumentException("Unknown key id: " + keyId);
+    }
+    return grow();
+  }
+
+  private synchronized String[] grow() {
+    String[] values = this.values;
+    int size = keyIndex.size();
+    if (values.length < size) {
+      String[] newValues = Arrays.copyOf(values, size);
+      for (int keyId = values.length; keyId < size; keyId++) {
+        newValues[keyId] = valueOf(keyIndex.name(keyId));
+      }
+      parsedValues = Arrays.copyOf(parsedValues, size);
+      this.values = values = newValues;
+    }
+    return values;
+  }
+
+  private String valueOf(String name) {
+    LoadedConfigProperty property = propertyMap.get(name);
+    return property != null ? property.valueAsString(null) : null;
+  }
+
+  Map<String, LoadedConfigProperty> propertyMap() {
+    return propertyMap;
+  }
+
+  @Override
+  public long generation() {
+    return generation;
+  }
+
+  @Override
+  public Set<String> names() {
+    return Collections.unmodifiableSet(propertyMap.keySet());
+  }
+
+  @Override
+  public Optional<ConfigProperty> property(String name) {
+    return Optional.ofNullable(propertyMap.get(name));
+  }
+
+  @Override
+  public String stringValue(String name, String defaultValue) {
+    LoadedConfigProperty property = propertyMap.get(name);
+    return property != null ? property.valueAsString(defaultValue) : defaultValue;
+  }
+
+  @Override
+  public int intValue(String name, int defaultValue) {
+    return value(name, ConfigRegistryImpl.INT_PARSER, defaultValue);
+  }
+
+  @Override
+  public long longValue(String name, long defaultValue) {
+    return value(name, ConfigRegistryImpl.LONG_PARSER, defaultValue);
+  }
+
+  @Override
+  public double doubleValue(String name, double defaultValue) {
+    return value(name, ConfigRegistryImpl.DOUBLE_PARSER, defaultValue);
+  }
+
+  @Override
+  public boolean booleanValue(String name, boolean defaultValue) {
+    return value(name, ConfigRegistryImpl.BOOLEAN_PARSER, defaultValue);
+  }
+
+  @Override
+  public Duration durationValue(String name, Duration defaultValue) {
+    return value(name, ConfigRegistryImpl.DURATION_PARSER, defaultValue);
+  }
+
+  @Override
+  public String stringValue(int keyId, String defaultValue) {
+    String value = values(keyId)[keyId];
+    return value != null ? value : defaultValue;
+  }
+
+  @Override
+  public int intValue(int keyId, int defaultValue) {
+    Integer value = parsedValue(keyId, Integer.class, ConfigRegistryImpl.INT_PARSER);
+    return value != null ? value : defaultValue;
+  }
+
+  @Override
+  public long longValue(int keyId, long defaultValue) {
+    Long value = parsedValue(keyId, Long.class, ConfigRegistryImpl.LONG_PARSER);
+    return value != null ? value : defaultValue;
+  }
+
+  @Override
+  public double doubleValue(int keyId, double defaultValue) {
+    Double value = parsedValue(keyId, Double.class, ConfigRegistryImpl.DOUBLE_PARSER);
+    return value != null ? value : defaultValue;
+  }
+
+  @Override
+  public boolean booleanValue(int keyId, boolean defaultValue) {
+    Boolean value = parsedValue(keyId, Boolean.class, ConfigRegistryImpl.BOOLEAN_PARSER);
+    return value != null ? value : defaultValue;
+  }
+
+  @Override
+  public Duration durationValue(int keyId, Duration defaultValue) {
+    Duration value = parsedValue(keyId, Duration.class, ConfigRegistryImpl.DURATION_PARSER);
+    return value != null ? value : defaultValue;
+  }
+
+  private <T> T value(String name, Function<String, T> parser, T defaultValue) {
+    String value = stringValue(name, null);
+    return value != null ? parser.apply(value) : defaultValue;
+  }
+
+  private <T> T parsedValue(int keyId, Class<T> type, Function<String, T> parser) {
+    String[] values = values(keyId);
+    Object[] parsedValues = this.parsedValues;
+    Object parsedValue = parsedValues[keyId];
+    if (type.isInstance(parsedValue)) {
+      return type.cast(parsedValue);
+    }
+    String value = values[keyId];
+    if (value == null) {
+      return null;
+    }
+    T newParsedValue = parser.apply(value);
+    parsedValues[keyId] = newParsedValue; // benign race, parsed values are immutable
+    return newParsedValue;
+  }
+
+  @Override
+  public String toString() {
+    return "ConfigSnapshot{generation=" + generation + ", size=" + propertyMap.size() + "}";
+  }
+}
@@ -0,0 +1,152 @@
+package io.scalecube.config;
+
+import io.scalecube.config.source.ConfigSource;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps config properties loaded from {@link ConfigSource} between config registry reloads, along
+ * with source fingerprint they were loaded at. Source is loaded by at most one thread at a time.
+ */
+final class ConfigSourceState {
+
+  private final ConfigSource source;
+
+  private volatile Map<String, ConfigProperty> configMap = Collections.emptyMap();
+  private final AtomicBoolean changed = new AtomicBoolean();
+  private final AtomicBoolean reloadScheduled = new AtomicBoolean();
+
+  // accessed by the loading thread only
+  private Optional<String> fingerprint = Optional.empty();
+  private boolean loaded;
+
+  // outcome of the recent reloads
+  private volatile long lastReloadTime; // millis, zero if never reloaded successfully
+  private volatile int failedReloads; // consecutive ones
+  private int skippedReloads; // accessed by config registry reload process only
+
+  // accessed by config registry reload process only
+  private CompletableFuture<Void> pendingReload;
+
+  ConfigSourceState(ConfigSource source) {
+    this.source = source;
+  }
+
+  /**
+   * Starts reloading of the source on the given executor. If previous reload is still in progress
+   * (e.g. config registry stopped waiting for it on timeout) then no new reload is started.
+   *
+   * @param executor executor to load config source on
+   * @return future which completes once reload finishes
+   * @see #reload()
+   */
+  CompletableFuture<Void> reloadAsync(Executor executor) {
+    if (pendingReload == null || pendingReload.isDone()) {
+      pendingReload = CompletableFuture.runAsync(this::reload, executor);
+    }
+    return pendingReload;
+  }
+
+  /**
+   * Restores config properties of the source saved by previous run. They serve until the source
+   * is loaded, and are not considered a load of the source, so next reload loads it regardless of
+   * its fingerprint.
+   *
+   * @param configMap config properties to restore
+   */
+  void restore(Map<String, ConfigProperty> configMap) {
+    this.configMap = configMap;
+  }
+
+  /**
+   * Loads config properties from the source, unless source fingerprint shows that nothing has
+   * changed there since the last load.
+   *
+   * @see ConfigSource#fingerprint()
+   */
+  void reload() {
+    Optional<String> fingerprint = source.fingerprint();
+    if (loaded && fingerprint.isPresent() && fingerprint.equals(this.fingerprint)) {
+      return;
+    }
+    configMap = source.loadConfig();
+    this.fingerprint = fingerprint;
+    loaded = true;
+    changed.set(true);
+  }
+
+  /**
+   * Marks the source as scheduled for reload upon change notification.
+   *
+   * @return true if reload has to be scheduled, false if it was already scheduled and didn't start
+   *     yet
+   */
+  boolean scheduleReload() {
+    return reloadScheduled.compareAndSet(false, true);
+  }
+
+  /** Marks scheduled reload as started, so that next change notification schedules a new one. */
+  void scheduledReloadStarted() {
+    reloadScheduled.set(false);
+  }
+
+  /** Records successful reload of the source. */
+  void reloadSucceeded() {
+    lastReloadTime = System.currentTimeMillis();
+    failedReloads = 0;
+    skippedReloads = 0;
+  }
+
+  /**
+   * Records failed reload of the source. After consecutive failures the source is backed off: it
+   * skips 1, 3, 7 and then 15 reloads before the next attempt.
+   *
+   * @see #isBackingOff()
+   */
+  void reloadFailed() {
+    failedReloads++;
+    skippedReloads = (1 << Math.min(failedReloads - 1, 4)) - 1;
+  }
+
+  /** Returns whether this reload of the source should be skipped after recent failures. */
+  boolean isBackingOff() {
+    if (skippedReloads > 0) {
+      skippedReloads--;
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Returns how long config properties of the source are stale, i.e. time passed since the last
+   * successful reload if recent reload failed.
+   *
+   * @return staleness age in millis, or zero if config properties are up to date or were never
+   *     loaded
+   */
+  long staleAgeMillis() {
+    long lastReloadTime = this.lastReloadTime;
+    return failedReloads > 0 && lastReloadTime > 0
+        ? System.currentTimeMillis() - lastReloadTime
+        : 0;
+  }
+
+  /** Returns whether config properties were loaded since they were merged last time. */
+  boolean isChanged() {
+    return changed.get();
+  }
+
+  /**
+   * Returns config properties of the last load, marking them as merged.
+   *
+   * @see #isChanged()
+   */
+  Map<String, ConfigProperty> mergeConfigMap() {
+    changed.set(false);
+    return configMap;
+  }
+}
@@ -2,24 +2,46 @@
 
 import io.scalecube.config.source.LoadedConfigProperty;
 import java.util.Map;
+import java.util.function.Supplier;
 
 class DoubleConfigPropertyImpl extends AbstractSimpleConfigProperty<Double>
     implements DoubleConfigProperty {
 
+  private volatile double doubleValue;
+  private volatile boolean present;
+
   DoubleConfigPropertyImpl(
       String name,
-      Map<String, LoadedConfigProperty> propertyMap,
-      Map<String, Map<Class, PropertyCallback>> propertyCallbackMap) {
-    super(name, Double.class, propertyMap, propertyCallbackMap, ConfigRegistryImpl.DOUBLE_PARSER);
+      Supplier<Map<String, LoadedConfigProperty>> propertyMapSupplier,
+      PropertyCallbackIndex propertyCallbackIndex) {
+    super(
+        name,
+        Double.class,
+        propertyMapSupplier,
+        propertyCallbackIndex,
+        ConfigRegistryImpl.DOUBLE_PARSER);
   }
 
   @Override
   public double value(double defaultValue) {
-    return value().orElse(defaultValue);
+    return present ? doubleValue : defaultValue;
   }
 
   @Override
   public double valueOrThrow() {
-    return value().orElseThrow(this::newNoSuchElementException);
+    if (!present) {
+      throw newNoSuchElementException();
+    }
+    return doubleValue;
+  }
+
+  @Override
+  void onValueChanged(Double value) {
+    if (value != null) {
+      doubleValue = value;
+      present = true;
+    } else {
+      present = false;
+    }
   }
 }
@@ -3,16 +3,21 @@
 import io.scalecube.config.source.LoadedConfigProperty;
 import java.time.Duration;
 import java.util.Map;
+import java.util.function.Supplier;
 
 class DurationConfigPropertyImpl extends AbstractSimpleConfigProperty<Duration>
     implements DurationConfigProperty {
 
   DurationConfigPropertyImpl(
       String name,
-      Map<String, LoadedConfigProperty> propertyMap,
-      Map<String, Map<Class, PropertyCallback>> propertyCallbackMap) {
+      Supplier<Map<String, LoadedConfigProperty>> propertyMapSupplier,
+      PropertyCallbackIndex propertyCallbackIndex) {
     super(
-        name, Duration.class, propertyMap, propertyCallbackMap, ConfigRegistryImpl.DURATION_PARSER);
+        name,
+        Duration.class,
+        propertyMapSupplier,
+        propertyCallbackIndex,
+        ConfigRegistryImpl.DURATION_PARSER);
   }
 
   @Override
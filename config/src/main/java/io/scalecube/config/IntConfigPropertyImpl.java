@@ -2,24 +2,48 @@
 
 import io.scalecube.config.source.LoadedConfigProperty;
 import java.util.Map;
+import java.util.function.Supplier;
 
 class IntConfigPropertyImpl extends AbstractSimpleConfigProperty<Integer>
     implements IntConfigProperty {
 
+  // unboxed copy of the value, assigned in onValueChanged() which is called already from the super
+  // constructor, hence no field initializers here
+  private volatile int intValue;
+  private volatile boolean present;
+
   IntConfigPropertyImpl(
       String name,
-      Map<String, LoadedConfigProperty> propertyMap,
-      Map<String, Map<Class, PropertyCallback>> propertyCallbackMap) {
-    super(name, Integer.class, propertyMap, propertyCallbackMap, ConfigRegistryImpl.INT_PARSER);
+      Supplier<Map<String, LoadedConfigProperty>> propertyMapSupplier,
+      PropertyCallbackIndex propertyCallbackIndex) {
+    super(
+        name,
+        Integer.class,
+        propertyMapSupplier,
+        propertyCallbackIndex,
+        ConfigRegistryImpl.INT_PARSER);
   }
 
   @Override
   public int value(int defaultValue) {
-    return value().orElse(defaultValue);
+    return present ? intValue : defaultValue;
   }
 
   @Override
   public int valueOrThrow() {
-    return value().orElseThrow(this::newNoSuchElementException);
+    if (!present) {
+      throw newNoSuchElementException();
+    }
+    return intValue;
+  }
+
+  @Override
+  void onValueChanged(Integer value) {
+    if (value != null) {
+      intValue = value;
+      present = true;
+    } else {
+      present = false;
+    }
   }
 }
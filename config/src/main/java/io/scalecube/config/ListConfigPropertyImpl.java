@@ -5,6 +5,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 class ListConfigPropertyImpl<T> extends AbstractSimpleConfigProperty<List<T>>
@@ -16,14 +17,14 @@ static <T> Function<String, List<T>> toListPropertyParser(Function<String, T> va
 
   ListConfigPropertyImpl(
       String name,
-      Map<String, LoadedConfigProperty> propertyMap,
-      Map<String, Map<Class, PropertyCallback>> propertyCallbackMap,
+      Supplier<Map<String, LoadedConfigProperty>> propertyMapSupplier,
+      PropertyCallbackIndex propertyCallbackIndex,
       Function<String, T> valueParser) {
     super(
         name,
         getListPropertyClass(valueParser),
-        propertyMap,
-        propertyCallbackMap,
+        propertyMapSupplier,
+        propertyCallbackIndex,
         toListPropertyParser(valueParser));
   }
 
@@ -37,7 +38,7 @@ public List<T> valueOrThrow() {
     return value().orElseThrow(this::newNoSuchElementException);
   }
 
-  private static <T> Class<?> getListPropertyClass(Function<String, T> valueParser) {
+  static <T> Class<?> getListPropertyClass(Function<String, T> valueParser) {
     Class<?> result = null;
     if (ConfigRegistryImpl.STRING_PARSER == valueParser) {
       result = StringList.class;
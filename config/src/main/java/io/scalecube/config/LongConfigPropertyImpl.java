@@ -2,24 +2,46 @@
 
 import io.scalecube.config.source.LoadedConfigProperty;
 import java.util.Map;
+import java.util.function.Supplier;
 
 class LongConfigPropertyImpl extends AbstractSimpleConfigProperty<Long>
     implements LongConfigProperty {
 
+  private volatile long longValue;
+  private volatile boolean present;
+
   LongConfigPropertyImpl(
       String name,
-      Map<String, LoadedConfigProperty> propertyMap,
-      Map<String, Map<Class, PropertyCallback>> propertyCallbackMap) {
-    super(name, Long.class, propertyMap, propertyCallbackMap, ConfigRegistryImpl.LONG_PARSER);
+      Supplier<Map<String, LoadedConfigProperty>> propertyMapSupplier,
+      PropertyCallbackIndex propertyCallbackIndex) {
+    super(
+        name,
+        Long.class,
+        propertyMapSupplier,
+        propertyCallbackIndex,
+        ConfigRegistryImpl.LONG_PARSER);
   }
 
   @Override
   public long value(long defaultValue) {
-    return value().orElse(defaultValue);
+    return present ? longValue : defaultValue;
   }
 
   @Override
   public long valueOrThrow() {
-    return value().orElseThrow(this::newNoSuchElementException);
+    if (!present) {
+      throw newNoSuchElementException();
+    }
+    return longValue;
+  }
+
+  @Override
+  void onValueChanged(Long value) {
+    if (value != null) {
+      longValue = value;
+      present = true;
+    } else {
+      present = false;
+    }
   }
 }
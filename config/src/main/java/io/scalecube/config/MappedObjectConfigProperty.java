@@ -1,19 +1,39 @@
 package io.scalecube.config;
 
+import io.scalecube.config.source.LoadedConfigProperty;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
+/**
+ * Object config property which maps value of underlying string property. Value is mapped once per
+ * change of the underlying value, right when it changes, and is kept in a single volatile field
+ * along with the value it has replaced (callbacks get the latter as old value). Hence reads don't
+ * map anything and all readers share the same mapped object.
+ */
 class MappedObjectConfigProperty<T> implements ObjectConfigProperty<T> {
 
-  private final StringConfigProperty configProperty;
   private final Function<String, T> mapper;
+  private final StringConfigProperty configProperty;
+
+  // mapped value of the underlying property, replaced as a whole on its change
+  private volatile MappedValue<T> mappedValue = new MappedValue<>(null, null, null, 0, null);
 
-  MappedObjectConfigProperty(StringConfigProperty configProperty, Function<String, T> mapper) {
-    this.configProperty = configProperty;
-    this.mapper = mapper;
+  // last value mapped by validators, so that value which passed validation isn't mapped again
+  private volatile MappedValue<T> validatedValue;
+
+  MappedObjectConfigProperty(
+      String name,
+      Supplier<Map<String, LoadedConfigProperty>> propertyMapSupplier,
+      PropertyCallbackIndex propertyCallbackIndex,
+      Function<String, T> mapper) {
+    this.mapper = mapper; // assigned first, underlying property gets its value in constructor
+    this.configProperty =
+        new UnderlyingConfigProperty(name, propertyMapSupplier, propertyCallbackIndex);
   }
 
   @Override
@@ -23,7 +43,12 @@ public String name() {
 
   @Override
   public Optional<T> value() {
-    return configProperty.value().map(mapper);
+    MappedValue<T> mappedValue = this.mappedValue;
+    if (mappedValue.error != null) {
+      throw new IllegalArgumentException(
+          "Can't map value of property '" + name() + "'", mappedValue.error);
+    }
+    return mappedValue.value;
   }
 
   @Override
@@ -31,30 +56,123 @@ public T value(T defaultValue) {
     return value().orElse(defaultValue);
   }
 
+  @Override
+  public long version() {
+    return mappedValue.version;
+  }
+
   @Override
   public void addCallback(BiConsumer<T, T> callback) {
-    configProperty.addCallback(
-        (v0, v1) -> {
-          T t0 = Optional.ofNullable(v0).map(mapper).orElse(null);
-          T t1 = Optional.ofNullable(v1).map(mapper).orElse(null);
-          callback.accept(t0, t1);
-        });
+    configProperty.addCallback((v0, v1) -> callback.accept(map(v0), map(v1)));
   }
 
   @Override
   public void addCallback(Executor executor, BiConsumer<T, T> callback) {
-    configProperty.addCallback(
-        executor,
-        (v0, v1) -> {
-          T t0 = Optional.ofNullable(v0).map(mapper).orElse(null);
-          T t1 = Optional.ofNullable(v1).map(mapper).orElse(null);
-          callback.accept(t0, t1);
-        });
+    configProperty.addCallback(executor, (v0, v1) -> callback.accept(map(v0), map(v1)));
   }
 
   @Override
   public void addValidator(Predicate<T> validator) {
-    configProperty.addValidator(
-        value -> validator.test(Optional.ofNullable(value).map(mapper).orElse(null)));
+    configProperty.addValidator(value -> validator.test(mapForValidation(value)));
+  }
+
+  /**
+   * Maps new value of the underlying property. Called from the underlying property each time its
+   * value changes (the first time from within its constructor), and takes its current value, so
+   * that concurrent calls settle on the latest one.
+   */
+  private synchronized void remap(StringConfigProperty property) {
+    MappedValue<T> mappedValue = this.mappedValue;
+    String value = property.value().orElse(null);
+    if (value == mappedValue.source) {
+      return;
+    }
+    MappedValue<T> validatedValue = this.validatedValue;
+    T mapped = null;
+    RuntimeException error = null;
+    if (validatedValue != null && validatedValue.source == value) {
+      mapped = validatedValue.value.orElse(null);
+    } else if (value != null) {
+      try {
+        mapped = mapper.apply(value);
+      } catch (RuntimeException e) {
+        error = e;
+      }
+    }
+    this.mappedValue =
+        new MappedValue<>(
+            value, Optional.ofNullable(mapped), error, property.version(), mappedValue);
+  }
+
+  /**
+   * Maps values callbacks get. These are normally the current and the previous mapped values,
+   * unless callback lags behind several changes.
+   */
+  private T map(String value) {
+    if (value == null) {
+      return null;
+    }
+    MappedValue<T> mappedValue = this.mappedValue;
+    if (value == mappedValue.source && mappedValue.error == null) {
+      return mappedValue.value.orElse(null);
+    }
+    if (value == mappedValue.previousSource) {
+      return mappedValue.previousValue;
+    }
+    return mapper.apply(value);
+  }
+
+  private T mapForValidation(String value) {
+    if (value == null) {
+      return null;
+    }
+    MappedValue<T> mappedValue = this.mappedValue;
+    if (value == mappedValue.source && mappedValue.error == null) {
+      return mappedValue.value.orElse(null);
+    }
+    T mapped = mapper.apply(value);
+    validatedValue = new MappedValue<>(value, Optional.ofNullable(mapped), null, 0, null);
+    return mapped;
+  }
+
+  /** Underlying string property which notifies enclosing mapped property about value changes. */
+  private final class UnderlyingConfigProperty extends StringConfigPropertyImpl {
+
+    private UnderlyingConfigProperty(
+        String name,
+        Supplier<Map<String, LoadedConfigProperty>> propertyMapSupplier,
+        PropertyCallbackIndex propertyCallbackIndex) {
+      super(name, propertyMapSupplier, propertyCallbackIndex);
+    }
+
+    @Override
+    void onValueChanged(String value) {
+      remap(this);
+    }
+  }
+
+  private static final class MappedValue<T> {
+
+    private final String source;
+    private final Optional<T> value;
+    private final RuntimeException error;
+    private final long version;
+    private final String previousSource;
+    private final T previousValue;
+
+    private MappedValue(
+        String source,
+        Optional<T> value,
+        RuntimeException error,
+        long version,
+        MappedValue<T> previous) {
+      this.source = source;
+      this.value = value != null ? value : Optional.empty();
+      this.error = error;
+      this.version = version;
+      this.previousSource = previous != null ? previous.source : null;
+      this.previousValue =
+          previous != null && previous.error == null ? previous.value.orElse(null) : null;
+    }
   }
 }
@@ -6,6 +6,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 class MultimapConfigPropertyImpl<T> extends AbstractSimpleConfigProperty<Map<String, List<T>>>
     implements MultimapConfigProperty<T> {
@@ -35,14 +36,14 @@ static <T> Function<String, Map<String, List<T>>> toMultimapPropertyParser(
 
   MultimapConfigPropertyImpl(
       String name,
-      Map<String, LoadedConfigProperty> propertyMap,
-      Map<String, Map<Class, PropertyCallback>> propertyCallbackMap,
+      Supplier<Map<String, LoadedConfigProperty>> propertyMapSupplier,
+      PropertyCallbackIndex propertyCallbackIndex,
       Function<String, T> valueParser) {
     super(
         name,
         getMapPropertyClass(valueParser),
-        propertyMap,
-        propertyCallbackMap,
+        propertyMapSupplier,
+        propertyCallbackIndex,
         toMultimapPropertyParser(valueParser));
   }
 
@@ -56,7 +57,7 @@ public Map<String, List<T>> valueOrThrow() {
     return value().orElseThrow(this::newNoSuchElementException);
   }
 
-  private static <T> Class<?> getMapPropertyClass(Function<String, T> valueParser) {
+  static <T> Class<?> getMapPropertyClass(Function<String, T> valueParser) {
     Class<?> result = null;
     if (ConfigRegistryImpl.STRING_PARSER == valueParser) {
       result = StringMultimap.class;
@@ -46,6 +46,16 @@
    */
   T value(T defaultValue);
 
+  /**
+   * Returns version of value of this property, see {@link ConfigProperty#version()}.
+   * Implementations which don't track value changes always return 0.
+   *
+   * @return value version
+   */
+  default long version() {
+    return 0;
+  }
+
   /**
    * Adds reload callback to the list. Callbacks will be invoked in the order they were added, and
    * only after validation have been passed.
@@ -7,7 +7,7 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -21,21 +21,16 @@
   ObjectConfigPropertyImpl(
       Map<String, String> bindingMap,
       Class<T> cfgClass,
-      Map<String, LoadedConfigProperty> propertyMap,
-      Map<String, Map<Class, PropertyCallback>> propertyCallbackMap) {
+      Supplier<Map<String, LoadedConfigProperty>> propertyMapSupplier,
+      PropertyCallbackIndex propertyCallbackIndex) {
 
     super(cfgClass.getName(), cfgClass);
 
     List<ObjectPropertyField> propertyFields = toPropertyFields(bindingMap, cfgClass);
-    setPropertyCallback(computePropertyCallback(cfgClass, propertyFields, propertyCallbackMap));
+    setPropertyCallback(
+        computePropertyCallback(cfgClass, bindingMap, propertyFields, propertyCallbackIndex));
 
-    computeValue(
-        propertyFields
-            .stream()
-            .map(ObjectPropertyField::getPropertyName)
-            .filter(propertyMap::containsKey)
-            .map(propertyMap::get)
-            .collect(Collectors.toList()));
+    computeValue(propertyMapSupplier);
   }
 
   @Override
@@ -63,12 +58,9 @@ private List<ObjectPropertyField> toPropertyFields(
 
   private PropertyCallback<T> computePropertyCallback(
       Class<T> cfgClass,
+      Map<String, String> bindingMap,
       List<ObjectPropertyField> propertyFields,
-      Map<String, Map<Class, PropertyCallback>> propertyCallbackMap) {
-
-    PropertyCallback<T> propertyCallback =
-        new PropertyCallback<>(
-            list -> ObjectPropertyParser.parseObject(list, propertyFields, cfgClass));
+      PropertyCallbackIndex propertyCallbackIndex) {
 
     List<String> propertyNames =
         propertyFields
@@ -76,25 +68,16 @@ private PropertyCallback<T> computePropertyCallback(
             .map(ObjectPropertyField::getPropertyName)
             .collect(Collectors.toList());
 
-    // ensure that only one propertyCallback instance will be shared among instances of the same
-    // type
-    synchronized (propertyCallbackMap) {
-      propertyNames.forEach(
-          propName -> {
-            propertyCallbackMap.putIfAbsent(propName, new ConcurrentHashMap<>());
-            Map<Class, PropertyCallback> callbackMap = propertyCallbackMap.get(propName);
-            callbackMap.putIfAbsent(propertyClass, propertyCallback);
-          });
-    }
-
+    // only one propertyCallback instance is shared among instances of the same type and binding
     // noinspection unchecked
-    return propertyCallbackMap
-        .values()
-        .stream()
-        .filter(callbackMap -> callbackMap.containsKey(propertyClass))
-        .map(callbackMap -> callbackMap.get(propertyClass))
-        .collect(Collectors.toSet())
-        .iterator()
-        .next();
+    return propertyCallbackIndex.computeIfAbsent(
+        cfgClass,
+        bindingMap,
+        propertyNames,
+        () ->
+            new PropertyCallback<>(
+                propertyNames,
+                propertyClass,
+                new ObjectPropertyParser<>(propertyFields, cfgClass)));
   }
 }
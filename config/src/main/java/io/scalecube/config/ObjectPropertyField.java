@@ -1,6 +1,9 @@
 package io.scalecube.config;
 
 import io.scalecube.config.utils.ThrowableUtil;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
@@ -12,12 +15,16 @@
 
 /**
  * Helper holder class. Contains parsed field of the corresponding object class, associated property
- * name and computed {@link #valueParser} function.
+ * name, computed {@link #valueParser} function and {@link #setter} method handle of the field.
  */
 class ObjectPropertyField {
+  private static final MethodType SETTER_TYPE =
+      MethodType.methodType(void.class, Object.class, Object.class);
+
   private final Field field;
   private final String propertyName;
   private final Function<String, ?> valueParser;
+  private final MethodHandle setter; // (Object, Object)void
 
   ObjectPropertyField(Field field, String propertyName) {
     int modifiers = field.getModifiers();
@@ -31,6 +38,11 @@ class ObjectPropertyField {
     this.field = field;
     field.setAccessible(true); // set accessible to overcome 'private' declaration
     this.propertyName = propertyName;
+    try {
+      this.setter = MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE);
+    } catch (IllegalAccessException e) {
+      throw ThrowableUtil.propagate(e);
+    }
 
     if (field.getGenericType() instanceof ParameterizedType) {
       ParameterizedType paramType = (ParameterizedType) field.getGenericType();
@@ -96,10 +108,11 @@ String getPropertyName() {
   }
 
   void applyValueParser(Object instance, String value) {
+    Object fieldValue = valueParser.apply(value);
     try {
-      field.set(instance, valueParser.apply(value));
-    } catch (IllegalAccessException e) {
-      throw ThrowableUtil.propagate(e);
+      setter.invokeExact(instance, fieldValue);
+    } catch (Throwable throwable) {
+      throw ThrowableUtil.propagate(throwable);
     }
   }
 }
@@ -2,46 +2,98 @@
 
 import io.scalecube.config.source.LoadedConfigProperty;
 import io.scalecube.config.utils.ThrowableUtil;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 /**
  * Parser for {@link ObjectConfigProperty}. Returns object instance of the given class by the list
  * of {@link LoadedConfigProperty}-s and list of {@link ObjectPropertyField}-s. The class must
  * contain default constructor.
+ *
+ * <p>Everything reflective is resolved once, when parser is created: default constructor becomes
+ * method handle, and fields are indexed by names of the properties they are bound to. Parsing
+ * itself is one constructor call plus one index lookup and one setter call per loaded property.
+ *
+ * @param <T> type of config object
  */
-class ObjectPropertyParser {
+class ObjectPropertyParser<T> implements Function<List<LoadedConfigProperty>, T> {
 
-  private ObjectPropertyParser() {
-    // Do not instantiate
-  }
+  private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+  private final Class<T> cfgClass;
+  private final MethodHandle constructor; // ()Object, null if class can't be instantiated
+  private final Exception constructorException; // thrown on parse if there is no constructor
+  private final Map<String, ObjectPropertyField[]> fieldIndex; // by property name
 
-  static <T> T parseObject(
-      List<LoadedConfigProperty> inputList,
-      List<ObjectPropertyField> propertyFields,
-      Class<T> cfgClass) {
+  ObjectPropertyParser(List<ObjectPropertyField> propertyFields, Class<T> cfgClass) {
+    this.cfgClass = cfgClass;
 
-    T instance;
+    MethodHandle constructor = null;
+    Exception constructorException = null;
     try {
-      instance = cfgClass.newInstance();
+      Constructor<T> defaultConstructor = cfgClass.getDeclaredConstructor();
+      defaultConstructor.setAccessible(true); // set accessible to overcome 'private' declaration
+      constructor =
+          MethodHandles.lookup().unreflectConstructor(defaultConstructor).asType(CONSTRUCTOR_TYPE);
     } catch (Exception e) {
-      throw ThrowableUtil.propagate(e);
+      constructorException = e;
     }
+    this.constructor = constructor;
+    this.constructorException = constructorException;
 
-    Map<String, Optional<String>> inputMap =
-        inputList
-            .stream()
-            .collect(
-                Collectors.toMap(LoadedConfigProperty::name, LoadedConfigProperty::valueAsString));
-
+    Map<String, ObjectPropertyField[]> fieldIndex = new HashMap<>();
     for (ObjectPropertyField propertyField : propertyFields) {
-      Optional<String> valueOptional = inputMap.get(propertyField.getPropertyName());
-      if (valueOptional != null && valueOptional.isPresent()) {
-        propertyField.applyValueParser(instance, valueOptional.get());
+      fieldIndex.merge(
+          propertyField.getPropertyName(),
+          new ObjectPropertyField[] {propertyField},
+          ObjectPropertyParser::concat);
+    }
+    this.fieldIndex = fieldIndex;
+  }
+
+  @Override
+  public T apply(List<LoadedConfigProperty> inputList) {
+    return parseObject(inputList);
+  }
+
+  T parseObject(List<LoadedConfigProperty> inputList) {
+    T instance = newInstance();
+
+    for (int i = 0, n = inputList.size(); i < n; i++) {
+      LoadedConfigProperty input = inputList.get(i);
+      ObjectPropertyField[] propertyFields = fieldIndex.get(input.name());
+      String value = input.valueAsString(null);
+      if (propertyFields != null && value != null) {
+        for (ObjectPropertyField propertyField : propertyFields) {
+          propertyField.applyValueParser(instance, value);
+        }
       }
     }
     return instance;
   }
+
+  private T newInstance() {
+    if (constructor == null) {
+      throw ThrowableUtil.propagate(constructorException);
+    }
+    try {
+      return cfgClass.cast(constructor.invokeExact());
+    } catch (Throwable throwable) {
+      throw ThrowableUtil.propagate(throwable);
+    }
+  }
+
+  private static ObjectPropertyField[] concat(
+      ObjectPropertyField[] fields1, ObjectPropertyField[] fields2) {
+    ObjectPropertyField[] fields = new ObjectPropertyField[fields1.length + fields2.length];
+    System.arraycopy(fields1, 0, fields, 0, fields1.length);
+    System.arraycopy(fields2, 0, fields, fields1.length, fields2.length);
+    return fields;
+  }
 }
@@ -1,12 +1,15 @@
 package io.scalecube.config;
 
-import io.scalecube.config.audit.ConfigEvent;
 import io.scalecube.config.source.LoadedConfigProperty;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,49 +34,86 @@
    */
   private final Function<List<LoadedConfigProperty>, T> valueParser;
 
+  /** Names of the loaded properties which are input for {@link #valueParser}. */
+  private final Collection<String> propertyNames;
+
+  /** Class of config properties this callback serves. */
+  private final Class<?> propertyClass;
+
+  /** Number of the last config registry reload this callback was computed on. */
+  private long lastReload;
+
   /**
    * Collection of ConfigProperty objects of the same type assigned to this {@link
-   * PropertyCallback}.
+   * PropertyCallback}. Config properties are referenced weakly, whether they stay alive is decided
+   * by config registry.
    */
-  private final Collection<AbstractConfigProperty<T>> configProperties =
-      new CopyOnWriteArraySet<>();
+  private final Collection<Reference<AbstractConfigProperty<T>>> configProperties =
+      new ConcurrentLinkedQueue<>();
 
   /**
    * Creates property callback.
    *
+   * @param propertyNames names of the loaded properties config property value is computed from.
+   * @param propertyClass class of config properties the callback serves.
    * @param valueParser value parser for config property object of certain type.
    */
-  PropertyCallback(Function<List<LoadedConfigProperty>, T> valueParser) {
+  PropertyCallback(
+      Collection<String> propertyNames,
+      Class<?> propertyClass,
+      Function<List<LoadedConfigProperty>, T> valueParser) {
+    this.propertyNames = propertyNames;
+    this.propertyClass = propertyClass;
     this.valueParser = list -> list == null || list.isEmpty() ? null : valueParser.apply(list);
   }
 
+  Class<?> propertyClass() {
+    return propertyClass;
+  }
+
+  /**
+   * Marks this callback as computed on the given config registry reload. Callback computed from
+   * several properties is found once per changed property, this lets it be computed only once.
+   * Called from config registry reload process only.
+   *
+   * @param reload reload number
+   * @return true if callback was not marked on this reload yet
+   */
+  boolean markReload(long reload) {
+    if (lastReload == reload) {
+      return false;
+    }
+    lastReload = reload;
+    return true;
+  }
+
   /** Just adds config property instance to internal collection. */
   void addConfigProperty(AbstractConfigProperty<T> configProperty) {
-    configProperties.add(configProperty);
+    configProperties.add(new WeakReference<>(configProperty));
+  }
+
+  /**
+   * Removes garbage collected config property instances from internal collection.
+   *
+   * @return true if there are no config property instances left.
+   */
+  boolean purge() {
+    configProperties.removeIf(reference -> reference.get() == null);
+    return configProperties.isEmpty();
   }
 
   /**
-   * Computes new value for config property instances (of type {@link T}) from the list of {@link
-   * ConfigEvent}-s. This method is being called from config registry reload process.
+   * Computes new value for config property instances (of type {@link T}) from the given loaded
+   * properties. This method is being called from config registry reload process when at least one
+   * of {@link #propertyNames} has changed.
    *
-   * @param events config events computed during config registry reload.
+   * @param propertyMap all properties loaded during config registry reload.
+   * @param callbackDispatcher dispatcher to notify config property callbacks with.
    * @see ConfigRegistryImpl#loadAndNotify()
    */
-  void computeValue(List<ConfigEvent> events) {
-    List<LoadedConfigProperty> inputList =
-        events
-            .stream()
-            .filter(
-                event ->
-                    event.getType()
-                        != ConfigEvent.Type.REMOVED) // we only interested in ADDED or UPDATED
-            .map(
-                event ->
-                    LoadedConfigProperty.withNameAndValue(event.getName(), event.getNewValue())
-                        .source(event.getNewSource())
-                        .origin(event.getNewOrigin())
-                        .build())
-            .collect(Collectors.toList());
+  void computeValue(
+      Map<String, LoadedConfigProperty> propertyMap, CallbackDispatcher callbackDispatcher) {
+    List<LoadedConfigProperty> inputList = toInputList(propertyMap);
 
     T value;
     try {
@@ -83,37 +123,67 @@ void computeValue(List<ConfigEvent> events) {
       return; // return right away if parser failed
     }
 
-    T value1 = value; // new value
-    configProperties.forEach(
-        configProperty -> {
-          try {
-            configProperty.acceptValue(value1, inputList, true /* invokeCallbacks */);
-          } catch (Exception e) {
-            LOGGER.error(String.format(ERROR_EXCEPTION_AT_ACCEPT_VALUE, inputList, value1, e));
-          }
-        });
+    for (Reference<AbstractConfigProperty<T>> reference : configProperties) {
+      AbstractConfigProperty<T> configProperty = reference.get();
+      if (configProperty == null) {
+        continue; // purged on next reload
+      }
+      try {
+        configProperty.acceptValue(value, inputList, callbackDispatcher);
+      } catch (Exception e) {
+        LOGGER.error(String.format(ERROR_EXCEPTION_AT_ACCEPT_VALUE, inputList, value, e));
+      }
+    }
   }
 
   /**
-   * Computes new value for config property instance (passed as second parameter) from the list of
-   * {@link LoadedConfigProperty}-s.
+   * Computes initial value for config property instance (passed as second parameter) from the
+   * current loaded properties. Being called once config property is bound to this callback: reload
+   * which has published new loaded properties right before that doesn't reach config property, so
+   * value gets recomputed until loaded properties it was computed from are still the current ones.
    *
-   * @param inputList an input for {@link #valueParser}.
+   * @param propertyMapSupplier supplier of properties loaded during the latest config registry
+   *     reload.
    * @param configProperty an instance where attempt to set a new value has to be made.
-   * @throws IllegalArgumentException in case value can't be parsed from the inputList or validation
-   *     doesn't pass.
+   * @throws IllegalArgumentException in case value can't be parsed from the loaded properties or
+   *     validation doesn't pass.
    */
   void computeValue(
+      Supplier<Map<String, LoadedConfigProperty>> propertyMapSupplier,
+      AbstractConfigProperty<T> configProperty) {
+    Map<String, LoadedConfigProperty> propertyMap = propertyMapSupplier.get();
+    while (true) {
+      computeValue(toInputList(propertyMap), configProperty);
+      Map<String, LoadedConfigProperty> currentPropertyMap = propertyMapSupplier.get();
+      if (currentPropertyMap == propertyMap) {
+        return;
+      }
+      propertyMap = currentPropertyMap;
+    }
+  }
+
+  private void computeValue(
       List<LoadedConfigProperty> inputList, AbstractConfigProperty<T> configProperty) {
     T value = applyValueParser(inputList);
     try {
-      configProperty.acceptValue(value, inputList, false /* invokeCallbacks */);
+      configProperty.acceptValue(value, inputList, null /* callbackDispatcher */);
     } catch (Exception e) {
       throw new IllegalArgumentException(
           String.format(ERROR_EXCEPTION_AT_ACCEPT_VALUE, inputList, value, e));
     }
   }
 
+  private List<LoadedConfigProperty> toInputList(Map<String, LoadedConfigProperty> propertyMap) {
+    List<LoadedConfigProperty> inputList = new ArrayList<>(propertyNames.size());
+    for (String propertyName : propertyNames) {
+      LoadedConfigProperty property = propertyMap.get(propertyName);
+      if (property != null) {
+        inputList.add(property);
+      }
+    }
+    return inputList;
+  }
+
   private T applyValueParser(List<LoadedConfigProperty> inputList) {
     try {
       return valueParser.apply(inputList);
@@ -0,0 +1,151 @@
+package io.scalecube.config;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Index of {@link PropertyCallback}-s by names of the loaded properties they are computed from.
+ * Callbacks of every property name are kept in immutable array which is replaced atomically on
+ * registration, so that lookups on reload are plain reads which don't allocate. Callbacks of
+ * object config properties are also indexed by config class and binding, so that object config
+ * property finds its callback without scanning callbacks of other properties.
+ */
+@SuppressWarnings("rawtypes")
+final class PropertyCallbackIndex {
+
+  private static final PropertyCallback[] EMPTY = new PropertyCallback[0];
+
+  private final Map<String, PropertyCallback[]> callbacks = new ConcurrentHashMap<>();
+
+  private final Map<ObjectCallbackKey, PropertyCallback> objectCallbacks =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Returns callbacks of the given property name.
+   *
+   * @param propertyName property name
+   * @return array of callbacks, empty if there is none; must not be modified
+   */
+  PropertyCallback[] get(String propertyName) {
+    PropertyCallback[] array = callbacks.get(propertyName);
+    return array != null ? array : EMPTY;
+  }
+
+  /**
+   * Returns callback of the given property name serving config properties of the given class, or
+   * registers the one provided by factory.
+   *
+   * @param propertyName property name
+   * @param propertyClass class of config properties, see {@link PropertyCallback#propertyClass()}
+   * @param callbackFactory factory of callback to register if there is none
+   * @return registered callback
+   */
+  PropertyCallback computeIfAbsent(
+      String propertyName, Class<?> propertyClass, Supplier<PropertyCallback> callbackFactory) {
+    PropertyCallback[] result = new PropertyCallback[1];
+    callbacks.compute(
+        propertyName,
+        (key, array) -> {
+          if (array != null) {
+            for (PropertyCallback callback : array) {
+              if (callback.propertyClass() == propertyClass) {
+                result[0] = callback;
+                return array;
+              }
+            }
+          }
+          result[0] = callbackFactory.get();
+          return append(array, result[0]);
+        });
+    return result[0];
+  }
+
+  /**
+   * Returns callback serving object config properties of the given class and binding, or registers
+   * the one provided by factory under all its property names. Object config properties of the same
+   * class but with different bindings get different callbacks.
+   *
+   * @param cfgClass class of config object
+   * @param bindingMap mapping between class field names and property names
+   * @param propertyNames property names callback is computed from
+   * @param callbackFactory factory of callback to register if there is none
+   * @return registered callback
+   */
+  PropertyCallback computeIfAbsent(
+      Class<?> cfgClass,
+      Map<String, String> bindingMap,
+      Collection<String> propertyNames,
+      Supplier<PropertyCallback> callbackFactory) {
+    return objectCallbacks.computeIfAbsent(
+        new ObjectCallbackKey(cfgClass, bindingMap),
+        key -> {
+          PropertyCallback callback = callbackFactory.get();
+          for (String propertyName : propertyNames) {
+            callbacks.compute(propertyName, (name, array) -> append(array, callback));
+          }
+          return callback;
+        });
+  }
+
+  /**
+   * Removes garbage collected config properties from callbacks, and then callbacks which have no
+   * config properties left.
+   *
+   * @see PropertyCallback#purge()
+   */
+  void purge() {
+    for (String propertyName : callbacks.keySet()) {
+      callbacks.computeIfPresent(
+          propertyName,
+          (key, array) -> {
+            PropertyCallback[] purged =
+                Arrays.stream(array)
+                    .filter(callback -> !callback.purge())
+                    .toArray(PropertyCallback[]::new);
+            return purged.length == array.length ? array : purged.length > 0 ? purged : null;
+          });
+    }
+    objectCallbacks.values().removeIf(PropertyCallback::purge);
+  }
+
+  private static PropertyCallback[] append(PropertyCallback[] array, PropertyCallback callback) {
+    if (array == null) {
+      return new PropertyCallback[] {callback};
+    }
+    PropertyCallback[] newArray = Arrays.copyOf(array, array.length + 1);
+    newArray[array.length] = callback;
+    return newArray;
+  }
+
+  private static final class ObjectCallbackKey {
+
+    private final Class<?> cfgClass;
+    private final Map<String, String> bindingMap;
+
+    private ObjectCallbackKey(Class<?> cfgClass, Map<String, String> bindingMap) {
+      this.cfgClass = cfgClass;
+      this.bindingMap = new HashMap<>(bindingMap);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      ObjectCallbackKey that = (ObjectCallbackKey) o;
+      return cfgClass == that.cfgClass && bindingMap.equals(that.bindingMap);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * cfgClass.hashCode() + bindingMap.hashCode();
+    }
+  }
+}
@@ -2,15 +2,21 @@
 
 import io.scalecube.config.source.LoadedConfigProperty;
 import java.util.Map;
+import java.util.function.Supplier;
 
 class StringConfigPropertyImpl extends AbstractSimpleConfigProperty<String>
     implements StringConfigProperty {
 
   StringConfigPropertyImpl(
       String name,
-      Map<String, LoadedConfigProperty> propertyMap,
-      Map<String, Map<Class, PropertyCallback>> propertyCallbackMap) {
-    super(name, String.class, propertyMap, propertyCallbackMap, ConfigRegistryImpl.STRING_PARSER);
+      Supplier<Map<String, LoadedConfigProperty>> propertyMapSupplier,
+      PropertyCallbackIndex propertyCallbackIndex) {
+    super(
+        name,
+        String.class,
+        propertyMapSupplier,
+        propertyCallbackIndex,
+        ConfigRegistryImpl.STRING_PARSER);
   }
 
   @Override
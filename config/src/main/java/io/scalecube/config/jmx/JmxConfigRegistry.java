@@ -47,4 +47,9 @@ public Collection<String> getEvents() {
   public Collection<String> getSettings() {
     return Collections.singletonList(configRegistry.getSettings().toString());
   }
+
+  @Override
+  public Collection<String> getCallbackDispatcher() {
+    return Collections.singletonList(configRegistry.getCallbackDispatcherInfo().toString());
+  }
 }
@@ -11,4 +11,6 @@ public interface JmxConfigRegistryMBean {
   Collection<String> getEvents();
 
   Collection<String> getSettings();
+
+  Collection<String> getCallbackDispatcher();
 }
@@ -1,6 +1,7 @@
 package io.scalecube.config.keyvalue;
 
 import java.util.List;
+import java.util.Optional;
 
 /** Generic key-value config data access interface. */
 public interface KeyValueConfigRepository {
@@ -13,4 +14,17 @@ public interface KeyValueConfigRepository {
    * @throws Exception in case of any issue happened when accessing config data source.
    */
   List<KeyValueConfigEntity> findAll(KeyValueConfigName configName) throws Exception;
+
+  /**
+   * Retrieves version of key-value pairs under given config name, i.e. some value which changes
+   * whenever result of {@link #findAll(KeyValueConfigName)} changes. Supposed to be much cheaper
+   * than {@link #findAll(KeyValueConfigName)}.
+   *
+   * @param configName a config name.
+   * @return version, or empty if data source doesn't support versioning.
+   * @throws Exception in case of any issue happened when accessing config data source.
+   */
+  default Optional<String> version(KeyValueConfigName configName) throws Exception {
+    return Optional.empty();
+  }
 }
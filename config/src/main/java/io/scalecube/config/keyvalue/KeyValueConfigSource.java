@@ -4,7 +4,9 @@
 import io.scalecube.config.ConfigSourceNotAvailableException;
 import io.scalecube.config.source.ConfigSource;
 import io.scalecube.config.source.LoadedConfigProperty;
+import io.scalecube.config.utils.ExecutorStrategy;
 import io.scalecube.config.utils.ThrowableUtil;
+import java.io.Closeable;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -13,10 +15,13 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.StringJoiner;
 import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
@@ -29,9 +34,10 @@
 
 /**
  * Generic key-value config source. Communicates with concrete config data source (mongodb, redis,
- * zookeeper) using injectable {@link #repository}.
+ * zookeeper) using injectable {@link #repository}. Closing config source shuts down its executor,
+ * if it was created by {@link Builder#executorStrategy(ExecutorStrategy)}.
  */
-public class KeyValueConfigSource implements ConfigSource {
+public class KeyValueConfigSource implements ConfigSource, Closeable {
   private static final Logger LOGGER = LoggerFactory.getLogger(KeyValueConfigSource.class);
 
   private static final ThreadFactory threadFactory;
@@ -47,15 +53,22 @@ public class KeyValueConfigSource implements ConfigSource {
         };
   }
 
-  private static final Executor executor = Executors.newCachedThreadPool(threadFactory);
+  private static final Executor defaultExecutor = Executors.newCachedThreadPool(threadFactory);
 
   private final KeyValueConfigRepository repository;
+  private final Executor executor;
+  private final ExecutorService ownExecutor; // null if default executor is used
   private final Duration repositoryTimeout;
   private final List<KeyValueConfigName> configNames; // calculated field
 
   private KeyValueConfigSource(Builder builder) {
     this.repository = builder.repository;
     this.repositoryTimeout = builder.repositoryTimeout;
+    this.ownExecutor =
+        builder.executorStrategy != null
+            ? builder.executorStrategy.newExecutor("keyvalue-config-executor")
+            : null;
+    this.executor = ownExecutor != null ? ownExecutor : defaultExecutor;
     this.configNames = configureConfigNames(builder.groupList, builder.collectionName);
   }
 
@@ -122,6 +135,42 @@ public Map<String, ConfigProperty> loadConfig() {
                 (map1, map2) -> map1));
   }
 
+  /**
+   * Returns fingerprint made of versions of all config names of this source. Empty if repository
+   * doesn't provide version for any of them.
+   *
+   * @see KeyValueConfigRepository#version(KeyValueConfigName)
+   */
+  @Override
+  public Optional<String> fingerprint() {
+    StringJoiner joiner = new StringJoiner(",");
+    for (KeyValueConfigName configName : configNames) {
+      Optional<String> version;
+      try {
+        version = repository.version(configName);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Exception at {}.version({}), cause: {}",
+            repository.getClass().getSimpleName(),
+            configName,
+            e);
+        return Optional.empty();
+      }
+      if (!version.isPresent()) {
+        return Optional.empty();
+      }
+      joiner.add(configName.getQualifiedName() + ':' + version.get());
+    }
+    return Optional.of(joiner.toString());
+  }
+
+  @Override
+  public void close() {
+    if (ownExecutor != null) {
+      ownExecutor.shutdown();
+    }
+  }
+
   private CompletableFuture<List<KeyValueConfigEntity>> loadConfig(KeyValueConfigName configName) {
     return CompletableFuture.supplyAsync(
         () -> {
@@ -149,6 +198,7 @@ public static class Builder {
     private final String collectionName;
     private List<String> groupList = new ArrayList<>();
     private Duration repositoryTimeout = DEFAULT_REPOSITORY_TIMEOUT;
+    private ExecutorStrategy executorStrategy;
 
     private Builder(KeyValueConfigRepository repository) {
       this(repository, DEFAULT_COLLECTION_NAME);
@@ -174,6 +224,18 @@ public Builder repositoryTimeout(Duration repositoryTimeout) {
       return this;
     }
 
+    /**
+     * Sets strategy of creating executor repository is queried on. By default config source
+     * queries repository on cached thread pool shared by all key-value config sources.
+     *
+     * @param executorStrategy executor strategy
+     * @return builder instance
+     */
+    public Builder executorStrategy(ExecutorStrategy executorStrategy) {
+      this.executorStrategy = Objects.requireNonNull(executorStrategy);
+      return this;
+    }
+
     public KeyValueConfigSource build() {
       return new KeyValueConfigSource(this);
     }
@@ -11,7 +11,9 @@
 import java.net.URLClassLoader;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
+import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -25,6 +27,8 @@
 import java.util.Set;
 import java.util.StringJoiner;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.function.Predicate;
 import java.util.jar.Attributes;
 import java.util.jar.JarEntry;
@@ -38,6 +42,11 @@ public final class ClassPathConfigSource extends FilteredPathConfigSource {
   private static final String PATH_SEPARATOR = System.getProperty("path.separator");
   private static final String CLASSPATH_ATTIBUTE_MANIFEST_SEPARATOR = " ";
 
+  private static final String CLASS_FILE_SUFFIX = ".class";
+
+  private final Path indexFile;
+  private final ClassLoader classLoader;
+
   private Map<String, ConfigProperty> loadedConfig;
 
   /**
@@ -55,7 +64,35 @@ public ClassPathConfigSource(Predicate<Path> predicate) {
    * @param predicates list of predicates to match configuration files
    */
   public ClassPathConfigSource(List<Predicate<Path>> predicates) {
+    this(predicates, null);
+  }
+
+  /**
+   * Constructor. Jar files found on classpath are indexed in the given file: next time unchanged
+   * jars (same last modification time and size) are not opened unless they contain matching
+   * configuration files.
+   *
+   * @param predicates list of predicates to match configuration files
+   * @param indexFile file to persist classpath index in, or null to scan classpath every time
+   */
+  public ClassPathConfigSource(List<Predicate<Path>> predicates, Path indexFile) {
+    this(predicates, indexFile, ClassPathConfigSource.class.getClassLoader());
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param predicates list of predicates to match configuration files
+   * @param indexFile file to persist classpath index in, or null to scan classpath every time
+   * @param classLoader class loader which classpath (including classpath of its parents) is
+   *     scanned
+   */
+  public ClassPathConfigSource(
+      List<Predicate<Path>> predicates, Path indexFile, ClassLoader classLoader) {
     super(predicates);
+    this.indexFile = indexFile;
+    this.classLoader =
+        Objects.requireNonNull(classLoader, "ClassPathConfigSource: classLoader is required");
   }
 
   /**
@@ -85,33 +122,46 @@ public static ClassPathConfigSource createWithPattern(
     return new ClassPathConfigSource(preparePatternPredicates(filename, prefixPatterns));
   }
 
+  /**
+   * Factory method to create {@code ClassPathConfigSource} instance using filename plus its
+   * prefixPatterns, scanning classpath of the given class loader.
+   *
+   * @param filename filename for template of configuration property file
+   * @param prefixPatterns list of prefixPatterns (comma separated list of strings)
+   * @param classLoader class loader which classpath is scanned
+   * @return new {@code ClassPathConfigSource} instance
+   */
+  public static ClassPathConfigSource createWithPattern(
+      String filename, List<String> prefixPatterns, ClassLoader classLoader) {
+    Objects.requireNonNull(filename, "ClassPathConfigSource: filename is required");
+    Objects.requireNonNull(prefixPatterns, "ClassPathConfigSource: prefixPatterns is required");
+    return new ClassPathConfigSource(
+        preparePatternPredicates(filename, prefixPatterns), null, classLoader);
+  }
+
   @Override
   public Map<String, ConfigProperty> loadConfig() {
     if (loadedConfig != null) {
       return loadedConfig;
     }
 
-    Collection<Path> pathCollection = new ArrayList<>();
-    getClassPathEntries(getClass().getClassLoader()).stream()
-        .filter(uri -> uri.getScheme().equals("file"))
-        .forEach(
-            uri -> {
-              File file = new File(uri);
-              if (!file.exists()) {
-                return;
-              }
-              try {
-                if (file.isDirectory()) {
-                  Set<File> currentPath =
-                      new HashSet<>(Collections.singleton(file.getCanonicalFile()));
-                  scanDirectory(file, "", currentPath, pathCollection);
-                } else {
-                  scanJar(file, pathCollection);
-                }
-              } catch (Exception e) {
-                throw ThrowableUtil.propagate(e);
-              }
-            });
+    ClassPathIndex index = indexFile != null ? ClassPathIndex.load(indexFile) : null;
+    List<File> classPathFiles =
+        getClassPathEntries(classLoader).stream()
+            .filter(uri -> uri.getScheme().equals("file"))
+            .map(File::new)
+            .collect(Collectors.toList());
+    // scan does blocking I/O, so it runs on its own pool rather than on the common one
+    ForkJoinPool scanPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    List<Path> pathCollection;
+    try {
+      pathCollection = scanPool.invoke(new ScanTask(classPathFiles, index, Collections.emptySet()));
+    } finally {
+      scanPool.shutdown();
+    }
+    if (index != null) {
+      index.save();
+    }
 
     Map<String, ConfigProperty> result = new TreeMap<>();
     filterAndCollectInOrder(
@@ -156,7 +206,8 @@ private static File toFile(URL url) {
 
   private static Collection<URL> getClassLoaderUrls(ClassLoader classloader) {
     if (classloader instanceof URLClassLoader) {
-      return Arrays.stream(((URLClassLoader) classloader).getURLs()).collect(Collectors.toSet());
+      return Arrays.stream(((URLClassLoader) classloader).getURLs())
+          .collect(Collectors.toCollection(LinkedHashSet::new));
     }
     if (classloader.equals(ClassLoader.getSystemClassLoader())) {
       return parseJavaClassPath();
@@ -206,44 +257,97 @@ private static void scanDirectory(
     }
   }
 
-  private static void scanJar(File file, Collection<Path> collector) throws IOException {
-    try (JarFile jarFile = new JarFile(file)) {
-      for (File path : getClassPathFromManifest(file, jarFile.getManifest())) {
-        if (collector.add(path.getCanonicalFile().toPath())) {
-          scanFrom(path, collector);
-        }
+  private void scanJar(
+      File file, ClassPathIndex index, Set<File> jarChain, Collection<Path> collector)
+      throws IOException {
+    File canonicalFile = file.getCanonicalFile();
+    if (jarChain.contains(canonicalFile)) {
+      return;
+    }
+
+    ClassPathIndex.JarEntry indexEntry = index != null ? index.get(file) : null;
+    if (indexEntry == null) {
+      long lastModified = file.lastModified();
+      long length = file.length();
+      try (JarFile jarFile = new JarFile(file)) {
+        indexEntry =
+            new ClassPathIndex.JarEntry(
+                lastModified,
+                length,
+                getClassPathFromManifest(file, jarFile.getManifest()),
+                getResourceNames(jarFile));
       }
-      scanJarFile(jarFile, file.toPath(), collector);
+      if (index != null) {
+        index.put(file, indexEntry);
+      }
+    }
+
+    if (!indexEntry.classPath().isEmpty()) {
+      Set<File> manifestJarChain = new HashSet<>(jarChain);
+      manifestJarChain.add(canonicalFile);
+      List<File> classPathFiles =
+          indexEntry.classPath().stream().map(File::new).collect(Collectors.toList());
+      collector.addAll(new ScanTask(classPathFiles, index, manifestJarChain).invoke());
     }
+    scanJarFile(file.toPath(), indexEntry.resourceNames(), collector);
   }
 
-  private static void scanJarFile(JarFile file, Path path, Collection<Path> collector)
+  /**
+   * Tests resource names against predicates before jar is opened as zip file system, so jars
+   * without matching configuration files are never opened.
+   */
+  private void scanJarFile(Path path, List<String> resourceNames, Collection<Path> collector)
       throws IOException {
+    List<String> matchedNames =
+        resourceNames.stream().filter(this::matchesResourceName).collect(Collectors.toList());
+    if (matchedNames.isEmpty()) {
+      return;
+    }
     try (FileSystem zipfs = FileSystems.newFileSystem(path, null)) {
-      Enumeration<JarEntry> entries = file.entries();
-      while (entries.hasMoreElements()) {
-        JarEntry entry = entries.nextElement();
-        if (entry.isDirectory() || entry.getName().equals(JarFile.MANIFEST_NAME)) {
-          continue;
-        }
-        collector.add(zipfs.getPath(entry.getName()));
+      for (String name : matchedNames) {
+        collector.add(zipfs.getPath(name));
       }
     }
   }
 
-  private static Set<File> getClassPathFromManifest(File jarFile, Manifest manifest) {
-    Set<File> result = new LinkedHashSet<>();
+  private boolean matchesResourceName(String name) {
+    try {
+      return matches(Paths.get(name));
+    } catch (InvalidPathException e) {
+      // let the zip file system path be tested later on
+      return true;
+    }
+  }
+
+  private static List<String> getResourceNames(JarFile jarFile) {
+    List<String> result = new ArrayList<>();
+    Enumeration<JarEntry> entries = jarFile.entries();
+    while (entries.hasMoreElements()) {
+      JarEntry entry = entries.nextElement();
+      String name = entry.getName();
+      if (entry.isDirectory()
+          || name.endsWith(CLASS_FILE_SUFFIX)
+          || name.equals(JarFile.MANIFEST_NAME)) {
+        continue;
+      }
+      result.add(name);
+    }
+    return result;
+  }
 
+  private static List<String> getClassPathFromManifest(File jarFile, Manifest manifest) {
     if (manifest == null) {
-      return result;
+      return Collections.emptyList();
     }
 
     String classpathAttribute =
         manifest.getMainAttributes().getValue(Attributes.Name.CLASS_PATH.toString());
     if (classpathAttribute == null) {
-      return result;
+      return Collections.emptyList();
     }
 
+    Set<String> result = new LinkedHashSet<>();
+
     for (String path : classpathAttribute.split(CLASSPATH_ATTIBUTE_MANIFEST_SEPARATOR)) {
       URL url;
       try {
@@ -252,13 +356,15 @@ private static Set<File> getClassPathFromManifest(File jarFile, Manifest manifes
         throw ThrowableUtil.propagate(e);
       }
       if (url.getProtocol().equals("file")) {
-        result.add(toFile(url));
+        result.add(toFile(url).getAbsolutePath());
       }
     }
-    return result;
+    return new ArrayList<>(result);
   }
 
-  private static void scanFrom(File file, Collection<Path> collector) throws IOException {
+  private void scanFrom(
+      File file, ClassPathIndex index, Set<File> jarChain, Collection<Path> collector)
+      throws IOException {
     try {
       if (!file.exists()) {
         return;
@@ -270,14 +376,54 @@ private static void scanFrom(File file, Collection<Path> collector) throws IOExc
       Set<File> currentPath = new HashSet<>(Collections.singleton(file.getCanonicalFile()));
       scanDirectory(file, "", currentPath, collector);
     } else {
-      scanJar(file, collector);
+      scanJar(file, index, jarChain, collector);
+    }
+  }
+
+  /**
+   * Scans classpath entries in parallel, each entry (including ones referenced from jar manifests)
+   * in its own subtask. Results are joined in the order of entries, so the scan outcome is the same
+   * as of sequential scan.
+   */
+  private final class ScanTask extends RecursiveTask<List<Path>> {
+    private static final long serialVersionUID = 1L;
+
+    private final List<File> files;
+    private final ClassPathIndex index;
+    private final Set<File> jarChain;
+
+    private ScanTask(List<File> files, ClassPathIndex index, Set<File> jarChain) {
+      this.files = files;
+      this.index = index;
+      this.jarChain = jarChain;
+    }
+
+    @Override
+    protected List<Path> compute() {
+      List<Path> result = new ArrayList<>();
+      if (files.size() == 1) {
+        try {
+          scanFrom(files.get(0), index, jarChain, result);
+        } catch (IOException e) {
+          throw ThrowableUtil.propagate(e);
+        }
+        return result;
+      }
+      List<ScanTask> tasks =
+          files.stream()
+              .map(file -> new ScanTask(Collections.singletonList(file), index, jarChain))
+              .collect(Collectors.toList());
+      invokeAll(tasks);
+      tasks.forEach(task -> result.addAll(task.join()));
+      return result;
     }
   }
 
   @Override
   public String toString() {
     return new StringJoiner(", ", ClassPathConfigSource.class.getSimpleName() + "[", "]")
-        .add("classLoader=" + getClass().getClassLoader())
+        .add("classLoader=" + classLoader)
+        .add("indexFile=" + indexFile)
         .toString();
   }
 }
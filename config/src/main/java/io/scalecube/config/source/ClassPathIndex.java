@@ -0,0 +1,178 @@
+package io.scalecube.config.source;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persisted index of jar files found on classpath. For every jar it keeps jar's manifest
+ * classpath and names of its resources (except classes), so that unchanged jars don't have to be
+ * opened and scanned again. Jar is considered unchanged while its last modification time and size
+ * stay the same.
+ */
+final class ClassPathIndex {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ClassPathIndex.class);
+
+  private static final int VERSION = 1;
+
+  private final Path indexFile;
+  private final Map<String, JarEntry> entries = new ConcurrentHashMap<>();
+  private final Map<String, JarEntry> usedEntries = new ConcurrentHashMap<>();
+  private volatile boolean modified;
+
+  private ClassPathIndex(Path indexFile) {
+    this.indexFile = indexFile;
+  }
+
+  /**
+   * Reads index from the given file. If file doesn't exist or can't be read then index starts
+   * empty.
+   *
+   * @param indexFile index file
+   * @return index instance
+   */
+  static ClassPathIndex load(Path indexFile) {
+    ClassPathIndex index = new ClassPathIndex(indexFile);
+    try (DataInputStream in =
+        new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+      if (in.readInt() != VERSION) {
+        return index;
+      }
+      for (int i = 0, n = in.readInt(); i < n; i++) {
+        String jarPath = in.readUTF();
+        long lastModified = in.readLong();
+        long length = in.readLong();
+        List<String> classPath = readStrings(in);
+        List<String> resourceNames = readStrings(in);
+        index.entries.put(jarPath, new JarEntry(lastModified, length, classPath, resourceNames));
+      }
+    } catch (NoSuchFileException e) {
+      LOGGER.debug("Classpath index file '{}' doesn't exist yet", indexFile);
+    } catch (Exception e) {
+      LOGGER.warn("Can't read classpath index file '{}', cause: {}", indexFile, e.toString());
+      index.entries.clear();
+    }
+    return index;
+  }
+
+  /**
+   * Returns index entry of the given jar file.
+   *
+   * @param jarFile jar file
+   * @return index entry, or null if jar isn't indexed or was changed since
+   */
+  JarEntry get(File jarFile) {
+    String jarPath = jarFile.getAbsolutePath();
+    JarEntry entry = entries.get(jarPath);
+    if (entry == null
+        || entry.lastModified != jarFile.lastModified()
+        || entry.length != jarFile.length()) {
+      return null;
+    }
+    usedEntries.put(jarPath, entry);
+    return entry;
+  }
+
+  void put(File jarFile, JarEntry entry) {
+    usedEntries.put(jarFile.getAbsolutePath(), entry);
+    modified = true;
+  }
+
+  /**
+   * Writes index to its file if anything has changed. Only jars looked up since the index was
+   * loaded are written.
+   */
+  void save() {
+    if (!modified && usedEntries.size() == entries.size()) {
+      return;
+    }
+    try {
+      Path parent = indexFile.toAbsolutePath().getParent();
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+      Path tmpFile = Files.createTempFile(parent, indexFile.getFileName().toString(), ".tmp");
+      try {
+        try (DataOutputStream out =
+            new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmpFile)))) {
+          out.writeInt(VERSION);
+          out.writeInt(usedEntries.size());
+          for (Map.Entry<String, JarEntry> e : usedEntries.entrySet()) {
+            JarEntry entry = e.getValue();
+            out.writeUTF(e.getKey());
+            out.writeLong(entry.lastModified);
+            out.writeLong(entry.length);
+            writeStrings(out, entry.classPath);
+            writeStrings(out, entry.resourceNames);
+          }
+        }
+        Files.move(
+            tmpFile,
+            indexFile,
+            StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+      } finally {
+        Files.deleteIfExists(tmpFile);
+      }
+    } catch (Exception e) {
+      LOGGER.warn("Can't write classpath index file '{}', cause: {}", indexFile, e.toString());
+    }
+  }
+
+  private static List<String> readStrings(DataInputStream in) throws IOException {
+    int n = in.readInt();
+    if (n < 0) {
+      throw new IOException("Corrupted classpath index, negative list size: " + n);
+    }
+    List<String> list = new ArrayList<>(Math.min(n, 1024)); // don't trust size of corrupted file
+    for (int i = 0; i < n; i++) {
+      list.add(in.readUTF());
+    }
+    return list;
+  }
+
+  private static void writeStrings(DataOutputStream out, List<String> list) throws IOException {
+    out.writeInt(list.size());
+    for (String s : list) {
+      out.writeUTF(s);
+    }
+  }
+
+  static final class JarEntry {
+    private final long lastModified;
+    private final long length;
+    private final List<String> classPath;
+    private final List<String> resourceNames;
+
+    JarEntry(long lastModified, long length, List<String> classPath, List<String> resourceNames) {
+      this.lastModified = lastModified;
+      this.length = length;
+      this.classPath = Collections.unmodifiableList(classPath);
+      this.resourceNames = Collections.unmodifiableList(resourceNames);
+    }
+
+    /** Returns absolute paths of manifest classpath entries. */
+    List<String> classPath() {
+      return classPath;
+    }
+
+    /** Returns names of jar resources, except classes, directories and manifest. */
+    List<String> resourceNames() {
+      return resourceNames;
+    }
+  }
+}
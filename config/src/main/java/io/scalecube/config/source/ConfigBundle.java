@@ -0,0 +1,127 @@
+package io.scalecube.config.source;
+
+import io.scalecube.config.ConfigProperty;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compact binary format of config properties. Bundle keeps name, value, source and origin of
+ * every property:
+ *
+ * <pre>
+ * int magic, int version, int count,
+ * count * (string name, string value, string source, string origin)
+ * </pre>
+ *
+ * <p>where string is int length of its UTF-8 bytes (or -1 for null) followed by the bytes.
+ * Bundles of version 1 have no source string in their records, they are still readable.
+ */
+public final class ConfigBundle {
+
+  private static final int MAGIC = 0x53434342; // "SCCB"
+  private static final int VERSION = 2;
+  private static final int VERSION_WITHOUT_SOURCE = 1;
+  private static final int NULL_LENGTH = -1;
+
+  private ConfigBundle() {
+    // Do not instantiate
+  }
+
+  /**
+   * Writes config properties to the given output stream in bundle format. Stream is not closed.
+   *
+   * @param configMap config properties by names
+   * @param outputStream output stream
+   * @throws IOException in case of I/O error
+   */
+  public static void write(
+      Map<String, ? extends ConfigProperty> configMap, OutputStream outputStream)
+      throws IOException {
+    DataOutputStream out = new DataOutputStream(new BufferedOutputStream(outputStream));
+    out.writeInt(MAGIC);
+    out.writeInt(VERSION);
+    out.writeInt(configMap.size());
+    for (ConfigProperty property : configMap.values()) {
+      writeString(out, property.name());
+      writeString(out, property.valueAsString(null));
+      writeString(out, property.source().orElse(null));
+      writeString(out, property.origin().orElse(null));
+    }
+    out.flush();
+  }
+
+  /**
+   * Reads config properties written in bundle format from the given buffer, starting at its
+   * current position.
+   *
+   * @param buffer buffer with bundle
+   * @return config properties by names
+   * @throws IllegalArgumentException if buffer doesn't contain a valid bundle
+   */
+  public static Map<String, LoadedConfigProperty> read(ByteBuffer buffer) {
+    try {
+      if (buffer.getInt() != MAGIC) {
+        throw new IllegalArgumentException("Not a config bundle");
+      }
+      int version = buffer.getInt();
+      if (version != VERSION && version != VERSION_WITHOUT_SOURCE) {
+        throw new IllegalArgumentException("Unsupported config bundle version: " + version);
+      }
+      boolean hasSource = version != VERSION_WITHOUT_SOURCE;
+      Map<String, LoadedConfigProperty> result = new TreeMap<>();
+      for (int i = 0, n = buffer.getInt(); i < n; i++) {
+        String name = readString(buffer);
+        String value = readString(buffer);
+        String source = hasSource ? readString(buffer) : null;
+        String origin = readString(buffer);
+        result.put(
+            name,
+            LoadedConfigProperty.withNameAndValue(name, value)
+                .source(source)
+                .origin(origin)
+                .build());
+      }
+      return result;
+    } catch (BufferUnderflowException e) {
+      throw new IllegalArgumentException("Config bundle is truncated", e);
+    }
+  }
+
+  private static void writeString(DataOutputStream out, String s) throws IOException {
+    if (s == null) {
+      out.writeInt(NULL_LENGTH);
+      return;
+    }
+    byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readString(ByteBuffer buffer) {
+    int length = buffer.getInt();
+    if (length == NULL_LENGTH) {
+      return null;
+    }
+    if (length < 0 || length > buffer.remaining()) {
+      throw new BufferUnderflowException();
+    }
+    String s;
+    if (buffer.hasArray()) {
+      int offset = buffer.arrayOffset() + buffer.position();
+      s = new String(buffer.array(), offset, length, StandardCharsets.UTF_8);
+      buffer.position(buffer.position() + length);
+    } else {
+      byte[] bytes = new byte[length];
+      buffer.get(bytes);
+      s = new String(bytes, StandardCharsets.UTF_8);
+    }
+    return s;
+  }
+}
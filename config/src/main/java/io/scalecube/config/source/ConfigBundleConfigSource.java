@@ -0,0 +1,90 @@
+package io.scalecube.config.source;
+
+import io.scalecube.config.ConfigProperty;
+import io.scalecube.config.ConfigSourceNotAvailableException;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * Config source which loads config properties from a classpath resource in {@link ConfigBundle}
+ * format. Such resource is prepared at build time (see scalecube-config-maven-plugin) out of the
+ * config files {@link ClassPathConfigSource} would find, so at runtime classpath is neither
+ * scanned nor config files are parsed.
+ */
+public final class ConfigBundleConfigSource implements ConfigSource {
+
+  public static final String DEFAULT_RESOURCE_NAME = "META-INF/scalecube/config.bundle";
+
+  private final String resourceName;
+  private final ClassLoader classLoader;
+
+  private Map<String, ConfigProperty> loadedConfig;
+
+  /** Constructor. Loads bundle from the default resource. */
+  public ConfigBundleConfigSource() {
+    this(DEFAULT_RESOURCE_NAME);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param resourceName name of bundle resource
+   */
+  public ConfigBundleConfigSource(String resourceName) {
+    this(resourceName, ConfigBundleConfigSource.class.getClassLoader());
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param resourceName name of bundle resource
+   * @param classLoader class loader to load bundle resource with
+   */
+  public ConfigBundleConfigSource(String resourceName, ClassLoader classLoader) {
+    this.resourceName =
+        Objects.requireNonNull(resourceName, "ConfigBundleConfigSource: resourceName is required");
+    this.classLoader =
+        Objects.requireNonNull(classLoader, "ConfigBundleConfigSource: classLoader is required");
+  }
+
+  @Override
+  public Map<String, ConfigProperty> loadConfig() {
+    if (loadedConfig != null) {
+      return loadedConfig;
+    }
+
+    try (InputStream is = classLoader.getResourceAsStream(resourceName)) {
+      if (is == null) {
+        throw new ConfigSourceNotAvailableException(
+            "Config bundle resource '" + resourceName + "' not found");
+      }
+      return loadedConfig =
+          Collections.unmodifiableMap(ConfigBundle.read(ByteBuffer.wrap(readAllBytes(is))));
+    } catch (IOException e) {
+      throw new ConfigSourceNotAvailableException(e);
+    }
+  }
+
+  private static byte[] readAllBytes(InputStream is) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(is.available(), 8192));
+    byte[] buffer = new byte[8192];
+    for (int n; (n = is.read(buffer)) != -1; ) {
+      out.write(buffer, 0, n);
+    }
+    return out.toByteArray();
+  }
+
+  @Override
+  public String toString() {
+    return new StringJoiner(", ", ConfigBundleConfigSource.class.getSimpleName() + "[", "]")
+        .add("resourceName='" + resourceName + "'")
+        .add("classLoader=" + classLoader)
+        .toString();
+  }
+}
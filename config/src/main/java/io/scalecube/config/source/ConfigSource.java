@@ -2,10 +2,37 @@
 
 import io.scalecube.config.ConfigProperty;
 import java.util.Map;
+import java.util.Optional;
 
 /** Config source interface which represents specific provider of configuration properties. */
 public interface ConfigSource {
 
   /** Loads all properties from the source. */
   Map<String, ConfigProperty> loadConfig();
+
+  /**
+   * Returns fingerprint of the current state of the source, i.e. some version, etag or checksum
+   * which changes whenever properties returned by {@link #loadConfig()} change. Config registry
+   * consults it on every reload and skips loading the source if fingerprint is the same as at the
+   * previous load. Computing fingerprint is supposed to be much cheaper than loading the source.
+   *
+   * @return fingerprint of the source, or empty if the source must be loaded on every reload
+   */
+  default Optional<String> fingerprint() {
+    return Optional.empty();
+  }
+
+  /**
+   * Subscribes to changes of the source. Source which supports it calls given listener whenever
+   * its properties change, and config registry reloads the source shortly after (several
+   * notifications in a row result in one reload). Listener is cheap and doesn't block, it may be
+   * called from any thread. Source which supports notifications keeps being reloaded on its reload
+   * interval too, turn it off to rely on notifications only.
+   *
+   * @param changeListener listener of source changes
+   * @return true if the source supports change notifications, false otherwise
+   */
+  default boolean subscribe(Runnable changeListener) {
+    return false;
+  }
 }
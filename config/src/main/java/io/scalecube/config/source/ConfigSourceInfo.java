@@ -5,6 +5,7 @@ public final class ConfigSourceInfo {
   private int priorityOrder;
   private String configSourceString;
   private String healthString;
+  private long staleAgeMillis;
   private String host;
 
   public String getSourceName() {
@@ -39,6 +40,14 @@ public void setHealthString(String healthString) {
     this.healthString = healthString;
   }
 
+  public long getStaleAgeMillis() {
+    return staleAgeMillis;
+  }
+
+  public void setStaleAgeMillis(long staleAgeMillis) {
+    this.staleAgeMillis = staleAgeMillis;
+  }
+
   public String getHost() {
     return host;
   }
@@ -57,6 +66,8 @@ public String toString() {
         + configSourceString
         + "\",\"healthString\":\""
         + healthString
+        + "\",\"staleAgeMillis\":\""
+        + staleAgeMillis
         + "\",\"host\":\""
         + host
         + "\"}";
@@ -2,23 +2,56 @@
 
 import io.scalecube.config.ConfigProperty;
 import io.scalecube.config.ConfigSourceNotAvailableException;
+import java.io.Closeable;
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.StringJoiner;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public final class FileDirectoryConfigSource extends FilteredPathConfigSource implements Closeable {
+  private static final Logger LOGGER = LoggerFactory.getLogger(FileDirectoryConfigSource.class);
+
+  // modification time resolution is as coarse as 2 seconds on some file systems
+  private static final long RECENT_MODIFICATION_MILLIS = 2000;
 
-public final class FileDirectoryConfigSource extends FilteredPathConfigSource {
   private final Path directory;
+  private final boolean watch;
+
+  // watch mode state
+  private final Map<Path, LoadedFile> loadedFiles = new ConcurrentHashMap<>();
+  private final Set<Path> changedFiles = ConcurrentHashMap.newKeySet(); // named by watch events
+  private final List<Runnable> changeListeners = new CopyOnWriteArrayList<>();
+  private final AtomicLong changeCount = new AtomicLong();
+  private volatile Path watchedDirectory;
+  private volatile WatchService watchService;
+  private volatile Thread watchThread;
+  private volatile boolean watching;
 
   /**
    * Constructor.
@@ -37,9 +70,27 @@ public FileDirectoryConfigSource(String directory, Predicate<Path> predicate) {
    * @param predicates list of predicates to match configuration files
    */
   public FileDirectoryConfigSource(String directory, List<Predicate<Path>> predicates) {
+    this(directory, predicates, false);
+  }
+
+  /**
+   * Constructor.
+   *
+   * <p>In watch mode the directory is watched for changes (see {@link WatchService}) once
+   * subscribed to, config registry gets notified about them and doesn't even list the directory
+   * if nothing changed. Parsed files are cached, only changed ones are parsed again. Watching stops
+   * on {@link #close()}. See also {@link #createWithPattern(String, String, List, boolean)}.
+   *
+   * @param directory directory with configuration files
+   * @param predicates list of predicates to match configuration files
+   * @param watch watch mode flag
+   */
+  public FileDirectoryConfigSource(
+      String directory, List<Predicate<Path>> predicates, boolean watch) {
     super(predicates);
     Objects.requireNonNull(directory, "FileDirectoryConfigSource: directory is required");
     this.directory = Paths.get(directory);
+    this.watch = watch;
   }
 
   /**
@@ -67,11 +118,27 @@ public static FileDirectoryConfigSource createWithPattern(
    */
   public static FileDirectoryConfigSource createWithPattern(
       String directory, String filename, List<String> prefixPatterns) {
+    return createWithPattern(directory, filename, prefixPatterns, false);
+  }
+
+  /**
+   * Factory method to create {@code FileDirectoryConfigSource} instance using filename plus its
+   * prefixPatterns, optionally in watch mode (see {@link #FileDirectoryConfigSource(String, List,
+   * boolean)}).
+   *
+   * @param directory directory with configuration files
+   * @param filename filename for template of configuration property file
+   * @param prefixPatterns list of prefixPatterns (comma separated list of strings)
+   * @param watch watch mode flag
+   * @return new {@code FileDirectoryConfigSource} instance
+   */
+  public static FileDirectoryConfigSource createWithPattern(
+      String directory, String filename, List<String> prefixPatterns, boolean watch) {
     Objects.requireNonNull(directory, "FileDirectoryConfigSource: directory is required");
     Objects.requireNonNull(filename, "FileDirectoryConfigSource: filename is required");
     Objects.requireNonNull(prefixPatterns, "FileDirectoryConfigSource: prefixPatterns is required");
     return new FileDirectoryConfigSource(
-        directory, preparePatternPredicates(filename, prefixPatterns));
+        directory, preparePatternPredicates(filename, prefixPatterns), watch);
   }
 
   @Override
@@ -89,10 +156,19 @@ public Map<String, ConfigProperty> loadConfig() {
     File[] files = Optional.ofNullable(realDirectory.toFile().listFiles()).orElse(new File[0]);
     List<Path> pathCollection = Arrays.stream(files).map(File::toPath).collect(Collectors.toList());
 
+    Map<Path, Map<String, String>> configMap;
+    if (watch) {
+      configMap = loadConfigMap(pathCollection, this::loadFile);
+      loadedFiles.keySet().retainAll(configMap.keySet());
+      changedFiles.retainAll(configMap.keySet());
+    } else {
+      configMap = loadConfigMap(pathCollection);
+    }
+
     Map<String, ConfigProperty> result = new TreeMap<>();
     filterAndCollectInOrder(
         predicates.iterator(),
-        loadConfigMap(pathCollection),
+        configMap,
         (path, map) ->
             map.entrySet()
                 .forEach(
@@ -105,10 +181,180 @@ public Map<String, ConfigProperty> loadConfig() {
     return result;
   }
 
+  /**
+   * Returns fingerprint made of names, last modification times and sizes of the files in the
+   * directory. Predicates are not applied. Files modified recently, so that a later change may
+   * share their modification time given coarse timestamp resolution, are read and their content
+   * checksums are added too. While the directory is watched, fingerprint is just a number of
+   * changes seen.
+   */
+  @Override
+  public Optional<String> fingerprint() {
+    if (watching) {
+      return Optional.of("watch:" + changeCount.get());
+    }
+
+    Path realDirectory;
+    try {
+      realDirectory = directory.toRealPath(LinkOption.NOFOLLOW_LINKS);
+    } catch (Exception e) {
+      return Optional.empty(); // let loadConfig() report the problem
+    }
+
+    File[] files = Optional.ofNullable(realDirectory.toFile().listFiles()).orElse(new File[0]);
+    Arrays.sort(files);
+
+    long now = System.currentTimeMillis();
+    StringJoiner joiner = new StringJoiner(",", realDirectory + "[", "]");
+    for (File file : files) {
+      try {
+        BasicFileAttributes attributes =
+            Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+        FileTime lastModifiedTime = attributes.lastModifiedTime();
+        String entry = file.getName() + ':' + lastModifiedTime + ':' + attributes.size();
+        if (attributes.isRegularFile()
+            && now - lastModifiedTime.toMillis() <= RECENT_MODIFICATION_MILLIS) {
+          entry += ":" + checksum(file.toPath());
+        }
+        joiner.add(entry);
+      } catch (IOException e) {
+        return Optional.empty(); // changed while listed, let loadConfig() load what's there
+      }
+    }
+    return Optional.of(joiner.toString());
+  }
+
+  @Override
+  public synchronized boolean subscribe(Runnable changeListener) {
+    if (!watch || (watchService == null && !startWatching())) {
+      return false;
+    }
+    changeListeners.add(changeListener);
+    return true;
+  }
+
+  /** Stops watching the directory, if it's watched, and waits for the watcher thread to exit. */
+  @Override
+  public synchronized void close() throws IOException {
+    watching = false;
+    WatchService watchService = this.watchService;
+    if (watchService != null) {
+      watchService.close();
+    }
+    Thread watchThread = this.watchThread;
+    if (watchThread != null && watchThread != Thread.currentThread()) {
+      try {
+        watchThread.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private boolean startWatching() {
+    try {
+      Path realDirectory = directory.toRealPath(LinkOption.NOFOLLOW_LINKS);
+      WatchService watchService = realDirectory.getFileSystem().newWatchService();
+      realDirectory.register(
+          watchService,
+          StandardWatchEventKinds.ENTRY_CREATE,
+          StandardWatchEventKinds.ENTRY_DELETE,
+          StandardWatchEventKinds.ENTRY_MODIFY);
+      this.watchedDirectory = realDirectory;
+      this.watchService = watchService;
+    } catch (Exception e) {
+      LOGGER.warn("Can't watch directory '{}', cause: {}", directory, e.toString());
+      return false;
+    }
+
+    watching = true;
+    Thread thread = new Thread(() -> watch(watchService));
+    thread.setDaemon(true);
+    thread.setName("config-directory-watcher");
+    thread.start();
+    watchThread = thread;
+    return true;
+  }
+
+  private void watch(WatchService watchService) {
+    while (true) {
+      WatchKey watchKey;
+      try {
+        watchKey = watchService.take();
+      } catch (ClosedWatchServiceException | InterruptedException e) {
+        return;
+      }
+      for (WatchEvent<?> event : watchKey.pollEvents()) {
+        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+          loadedFiles.clear(); // changes were lost, parse all files again
+        } else {
+          changedFiles.add(watchedDirectory.resolve((Path) event.context()));
+        }
+      }
+      boolean valid = watchKey.reset();
+      if (!valid) {
+        LOGGER.warn("Directory '{}' is no longer watched", directory);
+        watching = false;
+      }
+
+      changeCount.incrementAndGet();
+      for (Runnable changeListener : changeListeners) {
+        try {
+          changeListener.run();
+        } catch (Exception e) {
+          LOGGER.error("Exception on changeListener: {}, cause: {}", changeListener, e, e);
+        }
+      }
+
+      if (!valid) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Parses file unless it's cached and neither its modification time nor size changed. Files
+   * named by watch events since the last load are parsed anyway, as modification time may be too
+   * coarse to tell about the change.
+   */
+  private Map<String, String> loadFile(Path path) {
+    File file = path.toFile();
+    long lastModified = file.lastModified();
+    long length = file.length();
+    LoadedFile loadedFile = loadedFiles.get(path);
+    if (changedFiles.remove(path)
+        || loadedFile == null
+        || loadedFile.lastModified != lastModified
+        || loadedFile.length != length) {
+      loadedFile = new LoadedFile(lastModified, length, loadProperties(path));
+      loadedFiles.put(path, loadedFile);
+    }
+    return loadedFile.properties;
+  }
+
+  private static long checksum(Path path) throws IOException {
+    CRC32 crc32 = new CRC32();
+    crc32.update(Files.readAllBytes(path));
+    return crc32.getValue();
+  }
+
   @Override
   public String toString() {
     return new StringJoiner(", ", FileDirectoryConfigSource.class.getSimpleName() + "[", "]")
         .add("directory=" + directory)
+        .add("watch=" + watch)
         .toString();
   }
+
+  private static final class LoadedFile {
+    private final long lastModified;
+    private final long length;
+    private final Map<String, String> properties;
+
+    private LoadedFile(long lastModified, long length, Map<String, String> properties) {
+      this.lastModified = lastModified;
+      this.length = length;
+      this.properties = properties;
+    }
+  }
 }
@@ -8,11 +8,13 @@
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -29,9 +31,29 @@ protected FilteredPathConfigSource(List<Predicate<Path>> predicates) {
   }
 
   protected final Map<Path, Map<String, String>> loadConfigMap(Collection<Path> pathCollection) {
-    return pathCollection.stream()
-        .filter(path -> predicates.stream().anyMatch(predicate -> predicate.test(path)))
-        .collect(Collectors.toMap(path -> path, FilteredPathConfigSource::loadProperties));
+    return loadConfigMap(pathCollection, FilteredPathConfigSource::loadProperties);
+  }
+
+  protected final Map<Path, Map<String, String>> loadConfigMap(
+      Collection<Path> pathCollection, Function<Path, Map<String, String>> propertiesLoader) {
+    // keeps order of paths, config files found first take precedence
+    Map<Path, Map<String, String>> configMap = new LinkedHashMap<>();
+    for (Path path : pathCollection) {
+      if (matches(path)) {
+        configMap.put(path, propertiesLoader.apply(path));
+      }
+    }
+    return configMap;
+  }
+
+  /**
+   * Tests whether the given path matches any of predicates of this config source.
+   *
+   * @param path path to test
+   * @return true if path is matched
+   */
+  protected final boolean matches(Path path) {
+    return predicates.stream().anyMatch(predicate -> predicate.test(path));
   }
 
   static List<Predicate<Path>> preparePatternPredicates(
@@ -69,7 +91,7 @@ static void filterAndCollectInOrder(
     filterAndCollectInOrder(predicateIterator, configMap, configCollector);
   }
 
-  private static Map<String, String> loadProperties(Path input) {
+  protected static Map<String, String> loadProperties(Path input) {
     try (InputStream is = input.toUri().toURL().openStream()) {
       Properties properties = new Properties();
       properties.load(is);
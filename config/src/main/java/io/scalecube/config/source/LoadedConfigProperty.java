@@ -65,7 +65,7 @@ public Optional<String> valueAsString() {
 
   @Override
   public String valueAsString(String defaultValue) {
-    return valueAsString().orElse(defaultValue);
+    return value != null ? value : defaultValue;
   }
 
   @Override
@@ -0,0 +1,62 @@
+package io.scalecube.config.utils;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Strategy of creating executors config registry and config sources run their blocking tasks on:
+ * loading config sources, calling remote repositories, invoking config property callbacks.
+ *
+ * @see #platformThreads()
+ * @see #virtualThreads()
+ */
+public interface ExecutorStrategy {
+
+  /**
+   * Returns strategy which runs tasks on daemon platform threads.
+   *
+   * @return executor strategy
+   */
+  static ExecutorStrategy platformThreads() {
+    return PlatformThreadsExecutorStrategy.INSTANCE;
+  }
+
+  /**
+   * Returns strategy which runs each task on its own virtual thread when running on JDK 21+, and
+   * on daemon platform threads otherwise.
+   *
+   * @return executor strategy
+   * @see #isVirtualThreadsSupported()
+   */
+  static ExecutorStrategy virtualThreads() {
+    return VirtualThreadsExecutorStrategy.isSupported()
+        ? VirtualThreadsExecutorStrategy.INSTANCE
+        : PlatformThreadsExecutorStrategy.INSTANCE;
+  }
+
+  /**
+   * Tells whether virtual threads are available on the current JVM.
+   *
+   * @return true if running on JDK 21+
+   */
+  static boolean isVirtualThreadsSupported() {
+    return VirtualThreadsExecutorStrategy.isSupported();
+  }
+
+  /**
+   * Creates executor with as many threads as tasks submitted to it need.
+   *
+   * @param threadName name of executor threads
+   * @return executor service
+   */
+  ExecutorService newExecutor(String threadName);
+
+  /**
+   * Creates executor with limited concurrency. Strategies whose threads are cheap may ignore the
+   * limit.
+   *
+   * @param threadName name of executor threads
+   * @param threads max number of threads
+   * @return executor service
+   */
+  ExecutorService newExecutor(String threadName, int threads);
+}
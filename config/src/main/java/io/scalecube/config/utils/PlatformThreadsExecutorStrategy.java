@@ -0,0 +1,41 @@
+package io.scalecube.config.utils;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+final class PlatformThreadsExecutorStrategy implements ExecutorStrategy {
+  private static final Logger LOGGER =
+      LoggerFactory.getLogger(PlatformThreadsExecutorStrategy.class);
+
+  static final PlatformThreadsExecutorStrategy INSTANCE = new PlatformThreadsExecutorStrategy();
+
+  private PlatformThreadsExecutorStrategy() {}
+
+  @Override
+  public ExecutorService newExecutor(String threadName) {
+    return Executors.newCachedThreadPool(threadFactory(threadName));
+  }
+
+  @Override
+  public ExecutorService newExecutor(String threadName, int threads) {
+    return Executors.newFixedThreadPool(threads, threadFactory(threadName));
+  }
+
+  private static ThreadFactory threadFactory(String threadName) {
+    return r -> {
+      Thread thread = new Thread(r);
+      thread.setDaemon(true);
+      thread.setName(threadName);
+      thread.setUncaughtExceptionHandler((t, e) -> LOGGER.error("Exception occurred: " + e, e));
+      return thread;
+    };
+  }
+
+  @Override
+  public String toString() {
+    return "platformThreads";
+  }
+}
@@ -0,0 +1,75 @@
+package io.scalecube.config.utils;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs each task on its own virtual thread. Virtual threads API is resolved reflectively, since
+ * this library is built for Java 8.
+ */
+final class VirtualThreadsExecutorStrategy implements ExecutorStrategy {
+  private static final Logger LOGGER =
+      LoggerFactory.getLogger(VirtualThreadsExecutorStrategy.class);
+
+  static final VirtualThreadsExecutorStrategy INSTANCE = new VirtualThreadsExecutorStrategy();
+
+  private static final Method OF_VIRTUAL; // Thread.ofVirtual()
+  private static final Method NAME; // Thread.Builder.name(String)
+  private static final Method FACTORY; // Thread.Builder.factory()
+  private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+  static {
+    Method ofVirtual = null;
+    Method name = null;
+    Method factory = null;
+    Method newThreadPerTaskExecutor = null;
+    try {
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      ofVirtual = Thread.class.getMethod("ofVirtual");
+      name = builderClass.getMethod("name", String.class);
+      factory = builderClass.getMethod("factory");
+      newThreadPerTaskExecutor =
+          Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+      // on JDK 19-20 virtual threads are preview feature and fail unless enabled
+      ofVirtual.invoke(null);
+    } catch (Exception e) {
+      LOGGER.debug("Virtual threads are not supported: " + e);
+      ofVirtual = null;
+    }
+    OF_VIRTUAL = ofVirtual;
+    NAME = name;
+    FACTORY = factory;
+    NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+  }
+
+  private VirtualThreadsExecutorStrategy() {}
+
+  static boolean isSupported() {
+    return OF_VIRTUAL != null;
+  }
+
+  @Override
+  public ExecutorService newExecutor(String threadName) {
+    try {
+      Object builder = NAME.invoke(OF_VIRTUAL.invoke(null), threadName);
+      ThreadFactory threadFactory = (ThreadFactory) FACTORY.invoke(builder);
+      return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, threadFactory);
+    } catch (Exception e) {
+      throw ThrowableUtil.propagate(e);
+    }
+  }
+
+  @Override
+  public ExecutorService newExecutor(String threadName, int threads) {
+    return newExecutor(threadName);
+  }
+
+  @Override
+  public String toString() {
+    return "virtualThreads";
+  }
+}
@@ -0,0 +1,99 @@
+package io.scalecube.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.scalecube.config.utils.ExecutorStrategy;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class CallbackDispatcherTest {
+
+  @Test
+  void testLaggingCallbackReceivesCoalescedChanges() throws Exception {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    CallbackDispatcher callbackDispatcher = new CallbackDispatcher(executor);
+    CountDownLatch callbackStarted = new CountDownLatch(1);
+    CountDownLatch callbackReleased = new CountDownLatch(1);
+    List<String> changes = new CopyOnWriteArrayList<>();
+    CallbackDispatcher.Mailbox<Integer> mailbox =
+        new CallbackDispatcher.Mailbox<>(
+            (i1, i2) -> {
+              callbackStarted.countDown();
+              try {
+                callbackReleased.await();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              changes.add(i1 + "->" + i2);
+            });
+
+    callbackDispatcher.dispatch(mailbox, 1, 2);
+    assertTrue(callbackStarted.await(1, TimeUnit.SECONDS));
+    callbackDispatcher.dispatch(mailbox, 2, 3);
+    callbackDispatcher.dispatch(mailbox, 3, 4);
+    callbackReleased.countDown();
+    callbackDispatcher.shutdown();
+
+    assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+    assertEquals(Arrays.asList("1->2", "2->4"), changes);
+    assertEquals(1, callbackDispatcher.getInfo().getCoalescedCount());
+    assertEquals(0, callbackDispatcher.getInfo().getQueueDepth());
+  }
+
+  @Test
+  void testCallbacksDispatchedOnVirtualThreadsStrategy() throws Exception {
+    ExecutorService executor =
+        ExecutorStrategy.virtualThreads().newExecutor("config-callback-dispatcher", 1);
+    CallbackDispatcher callbackDispatcher = new CallbackDispatcher(executor);
+    List<String> changes = new CopyOnWriteArrayList<>();
+    CallbackDispatcher.Mailbox<Integer> mailbox =
+        new CallbackDispatcher.Mailbox<>((i1, i2) -> changes.add(i1 + "->" + i2));
+
+    callbackDispatcher.dispatch(mailbox, 1, 2);
+    callbackDispatcher.shutdown();
+
+    assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+    assertEquals(Collections.singletonList("1->2"), changes);
+  }
+
+  @Test
+  void testChangesDroppedOnceShutDown() throws Exception {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    CallbackDispatcher callbackDispatcher = new CallbackDispatcher(executor);
+    List<String> changes = new CopyOnWriteArrayList<>();
+    CallbackDispatcher.Mailbox<Integer> mailbox =
+        new CallbackDispatcher.Mailbox<>((i1, i2) -> changes.add(i1 + "->" + i2));
+
+    callbackDispatcher.dispatch(mailbox, 1, 2);
+    callbackDispatcher.shutdown();
+    callbackDispatcher.dispatch(mailbox, 2, 3);
+
+    assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+    assertEquals(1, changes.size());
+    assertEquals("1->2", changes.get(0));
+    assertEquals(0, callbackDispatcher.getInfo().getQueueDepth());
+  }
+
+  @Test
+  void testChangesDroppedWhenExecutorRejectsThem() {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    CallbackDispatcher callbackDispatcher = new CallbackDispatcher(executor);
+    List<String> changes = new CopyOnWriteArrayList<>();
+    CallbackDispatcher.Mailbox<Integer> mailbox =
+        new CallbackDispatcher.Mailbox<>((i1, i2) -> changes.add(i1 + "->" + i2));
+    executor.shutdown();
+
+    callbackDispatcher.dispatch(mailbox, 1, 2);
+
+    assertTrue(changes.isEmpty());
+    assertEquals(0, callbackDispatcher.getInfo().getQueueDepth());
+  }
+}
@@ -0,0 +1,360 @@
+package io.scalecube.config;
+
+import static io.scalecube.config.TestUtil.WAIT_FOR_RELOAD_PERIOD_MILLIS;
+import static io.scalecube.config.TestUtil.closeConfigRegistries;
+import static io.scalecube.config.TestUtil.mapBuilder;
+import static io.scalecube.config.TestUtil.newConfigRegistry;
+import static io.scalecube.config.TestUtil.newConfigRegistrySettings;
+import static io.scalecube.config.TestUtil.toConfigProps;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableMap;
+import io.scalecube.config.audit.ConfigEvent;
+import io.scalecube.config.source.ConfigSource;
+import io.scalecube.config.utils.ExecutorStrategy;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ConfigRegistryImplTest {
+
+  @Mock private ConfigSource configSource;
+  @Mock private ConfigSource anotherConfigSource;
+  @Mock private SideEffect sideEffect;
+
+  @AfterEach
+  void tearDown() {
+    closeConfigRegistries();
+  }
+
+  @Test
+  void testOnlyChangedPropertiesReportedOnReload() throws Exception {
+    when(configSource.loadConfig())
+        .thenReturn(toConfigProps(mapBuilder().put("a", "1").put("b", "2").put("c", "3").build()))
+        .thenReturn(toConfigProps(mapBuilder().put("a", "1").put("b", "42").put("d", "4").build()));
+    List<ConfigEvent> events = new CopyOnWriteArrayList<>();
+    newConfigRegistry(configSource, builder -> builder.addListener(events::addAll));
+
+    assertEquals(3, events.size());
+    events.clear();
+
+    TimeUnit.MILLISECONDS.sleep(WAIT_FOR_RELOAD_PERIOD_MILLIS);
+
+    assertEquals(
+        ImmutableMap.of(
+            "b", ConfigEvent.Type.UPDATED,
+            "c", ConfigEvent.Type.REMOVED,
+            "d", ConfigEvent.Type.ADDED),
+        events.stream().collect(Collectors.toMap(ConfigEvent::getName, ConfigEvent::getType)));
+  }
+
+  @Test
+  void testSourceNotLoadedOnReloadWhenFingerprintNotChanged() throws Exception {
+    when(configSource.fingerprint()).thenReturn(Optional.of("1"));
+    when(configSource.loadConfig()).thenReturn(toConfigProps(mapBuilder().put("int", "1").build()));
+    ConfigRegistryImpl configRegistry = newConfigRegistry(configSource);
+
+    IntConfigProperty intProperty = configRegistry.intProperty("int");
+
+    TimeUnit.MILLISECONDS.sleep(WAIT_FOR_RELOAD_PERIOD_MILLIS);
+
+    assertEquals(1, intProperty.valueOrThrow());
+    verify(configSource, times(1)).loadConfig();
+  }
+
+  @Test
+  void testSourceLoadTimeout() {
+    when(configSource.loadConfig())
+        .thenAnswer(
+            invocation -> {
+              TimeUnit.SECONDS.sleep(1);
+              return toConfigProps(mapBuilder().put("int", "1").build());
+            });
+
+    assertThrows(
+        ConfigSourceNotAvailableException.class,
+        () ->
+            newConfigRegistry(
+                configSource, builder -> builder.sourceLoadTimeout(Duration.ofMillis(100))));
+  }
+
+  @Test
+  void testStaleSourceToleratedOnReload() throws Exception {
+    when(configSource.loadConfig())
+        .thenReturn(toConfigProps(mapBuilder().put("int", "1").build()))
+        .thenThrow(new ConfigSourceNotAvailableException("source is down"));
+    when(anotherConfigSource.loadConfig())
+        .thenReturn(toConfigProps(mapBuilder().put("long", "1").build()))
+        .thenReturn(toConfigProps(mapBuilder().put("long", "42").build()));
+    ConfigRegistryImpl configRegistry =
+        newConfigRegistry(
+            configSource,
+            builder ->
+                builder.tolerateStaleSources(true).addLastSource("another", anotherConfigSource));
+
+    IntConfigProperty intProperty = configRegistry.intProperty("int");
+    LongConfigProperty longProperty = configRegistry.longProperty("long");
+
+    TimeUnit.MILLISECONDS.sleep(WAIT_FOR_RELOAD_PERIOD_MILLIS);
+
+    assertEquals(1, intProperty.valueOrThrow());
+    assertEquals(42, longProperty.valueOrThrow());
+    assertEquals("Stale", configRegistry.getConfigSources().iterator().next().getHealthString());
+  }
+
+  @Test
+  void testSourceNotReloadedWhenReloadTurnedOffForIt() throws Exception {
+    when(configSource.loadConfig()).thenReturn(toConfigProps(mapBuilder().put("int", "1").build()));
+    when(anotherConfigSource.loadConfig())
+        .thenReturn(toConfigProps(mapBuilder().put("long", "1").build()))
+        .thenReturn(toConfigProps(mapBuilder().put("long", "42").build()));
+    ConfigRegistryImpl configRegistry =
+        newConfigRegistry(
+            configSource,
+            builder -> builder.noReload("source").addLastSource("another", anotherConfigSource));
+
+    LongConfigProperty longProperty = configRegistry.longProperty("long");
+
+    TimeUnit.MILLISECONDS.sleep(WAIT_FOR_RELOAD_PERIOD_MILLIS);
+
+    assertEquals(42, longProperty.valueOrThrow());
+    verify(configSource, times(1)).loadConfig();
+  }
+
+  @Test
+  void testSourceReloadedOnChangeNotification() throws Exception {
+    ArgumentCaptor<Runnable> changeListener = ArgumentCaptor.forClass(Runnable.class);
+    when(configSource.subscribe(changeListener.capture())).thenReturn(true);
+    when(configSource.loadConfig())
+        .thenReturn(toConfigProps(mapBuilder().put("int", "1").build()))
+        .thenReturn(toConfigProps(mapBuilder().put("int", "42").build()));
+    ConfigRegistryImpl configRegistry =
+        newConfigRegistry(configSource, builder -> builder.noReload("source"));
+
+    IntConfigProperty intProperty = configRegistry.intProperty("int");
+    intProperty.addCallback((i1, i2) -> sideEffect.apply(i1, i2));
+
+    changeListener.getValue().run();
+    changeListener.getValue().run();
+
+    TimeUnit.MILLISECONDS.sleep(WAIT_FOR_RELOAD_PERIOD_MILLIS);
+
+    assertEquals(42, intProperty.valueOrThrow());
+    verify(sideEffect).apply(1, 42);
+    verify(configSource, times(2)).loadConfig();
+  }
+
+  @Test
+  void testWarmStartFromSnapshot() throws Exception {
+    Path snapshotFile = Files.createTempDirectory("config").resolve("config.snapshot");
+    when(configSource.loadConfig())
+        .thenReturn(toConfigProps(mapBuilder().put("int", "1").build()))
+        .thenThrow(new ConfigSourceNotAvailableException("source is down"));
+    newConfigRegistry(configSource, builder -> builder.noReload().snapshotFile(snapshotFile));
+
+    assertTrue(Files.exists(snapshotFile));
+
+    ConfigRegistryImpl configRegistry =
+        newConfigRegistry(configSource, builder -> builder.noReload().snapshotFile(snapshotFile));
+    IntConfigProperty intProperty = configRegistry.intProperty("int");
+
+    TimeUnit.MILLISECONDS.sleep(WAIT_FOR_RELOAD_PERIOD_MILLIS);
+
+    assertEquals(1, intProperty.valueOrThrow());
+    verify(configSource, times(2)).loadConfig();
+  }
+
+  @Test
+  void testPropertyResolvedOnceAsyncStartCompletes() throws Exception {
+    when(configSource.loadConfig())
+        .thenAnswer(
+            invocation -> {
+              TimeUnit.MILLISECONDS.sleep(500);
+              return toConfigProps(mapBuilder().put("int", "1").build());
+            });
+    try (ConfigRegistry configRegistry =
+        ConfigRegistry.createAsync(
+            newConfigRegistrySettings(configSource, builder -> builder.noReload()))) {
+
+      IntConfigProperty intProperty = configRegistry.intProperty("int");
+      assertFalse(intProperty.value().isPresent());
+
+      configRegistry.ready().get(WAIT_FOR_RELOAD_PERIOD_MILLIS, TimeUnit.MILLISECONDS);
+
+      assertEquals(1, intProperty.valueOrThrow());
+    }
+  }
+
+  @Test
+  void testPropertiesCreatedWhileAsyncStartCompletes() throws Exception {
+    ImmutableMap.Builder<String, String> props = mapBuilder();
+    for (int i = 0; i < 100; i++) {
+      props.put("int" + i, String.valueOf(i));
+    }
+    Map<String, ConfigProperty> configProps = toConfigProps(props.build());
+    when(configSource.loadConfig())
+        .thenAnswer(
+            invocation -> {
+              TimeUnit.MILLISECONDS.sleep(20);
+              return configProps;
+            });
+
+    // properties are created all along, so that some of them get created right when async start
+    // completes, several rounds make it likely
+    for (int round = 0; round < 10; round++) {
+      try (ConfigRegistry configRegistry =
+          ConfigRegistry.createAsync(
+              newConfigRegistrySettings(configSource, builder -> builder.noReload()))) {
+
+        List<ObjectConfigProperty<Integer>> properties = new ArrayList<>();
+        CompletableFuture<ConfigRegistry> ready = configRegistry.ready();
+        for (int i = 0; !ready.isDone() || i % 100 != 0; i++) {
+          properties.add(configRegistry.objectProperty("int" + (i % 100), Integer::parseInt));
+        }
+        ready.get(WAIT_FOR_RELOAD_PERIOD_MILLIS, TimeUnit.MILLISECONDS);
+
+        for (int i = 0; i < properties.size(); i++) {
+          assertEquals(Optional.of(i % 100), properties.get(i).value());
+        }
+      }
+    }
+  }
+
+  @Test
+  void testClosedRegistryStopsReloading() throws Exception {
+    when(configSource.loadConfig())
+        .thenReturn(toConfigProps(mapBuilder().put("int", "1").build()))
+        .thenReturn(toConfigProps(mapBuilder().put("int", "2").build()));
+    String jmxMBeanName = "io.scalecube.config:name=ClosedConfigRegistry";
+    ConfigRegistryImpl configRegistry =
+        newConfigRegistry(
+            configSource, builder -> builder.jmxEnabled(true).jmxMBeanName(jmxMBeanName));
+    IntConfigProperty intProperty = configRegistry.intProperty("int");
+
+    configRegistry.close();
+    TimeUnit.MILLISECONDS.sleep(WAIT_FOR_RELOAD_PERIOD_MILLIS);
+
+    verify(configSource, times(1)).loadConfig();
+    assertEquals(1, intProperty.valueOrThrow());
+    assertFalse(
+        ManagementFactory.getPlatformMBeanServer().isRegistered(new ObjectName(jmxMBeanName)));
+  }
+
+  @Test
+  void testCloseCancelsReloadsAndShutsDownExecutors() throws Exception {
+    when(configSource.loadConfig())
+        .thenReturn(toConfigProps(mapBuilder().put("int", "1").build()));
+    List<ExecutorService> executors = new CopyOnWriteArrayList<>();
+    ConfigRegistryImpl configRegistry =
+        newConfigRegistry(
+            configSource,
+            builder ->
+                builder
+                    .callbackDispatchThreads(1)
+                    .executorStrategy(recordingExecutorStrategy(executors)));
+    configRegistry.intProperty("int").addCallback((i1, i2) -> {});
+    assertEquals(2, executors.size());
+
+    configRegistry.close();
+
+    assertTerminated(executors);
+    TimeUnit.MILLISECONDS.sleep(WAIT_FOR_RELOAD_PERIOD_MILLIS);
+    verify(configSource, times(1)).loadConfig();
+  }
+
+  @Test
+  void testRegistryClosedWhenInitialLoadFails() throws Exception {
+    when(configSource.loadConfig())
+        .thenThrow(new ConfigSourceNotAvailableException("source is down"));
+    List<ExecutorService> executors = new CopyOnWriteArrayList<>();
+    ConfigRegistrySettings settings =
+        newConfigRegistrySettings(
+            configSource,
+            builder ->
+                builder
+                    .callbackDispatchThreads(1)
+                    .executorStrategy(recordingExecutorStrategy(executors)));
+
+    assertThrows(ConfigSourceNotAvailableException.class, () -> ConfigRegistry.create(settings));
+
+    assertEquals(2, executors.size());
+    assertTerminated(executors);
+    TimeUnit.MILLISECONDS.sleep(WAIT_FOR_RELOAD_PERIOD_MILLIS);
+    verify(configSource, times(1)).loadConfig();
+  }
+
+  @Test
+  void testFailedRegistryLeavesMBeanOfAnotherOne() throws Exception {
+    when(configSource.loadConfig()).thenReturn(toConfigProps(mapBuilder().build()));
+    String jmxMBeanName = "io.scalecube.config:name=SharedNameConfigRegistry";
+    newConfigRegistry(
+        configSource, builder -> builder.noReload().jmxEnabled(true).jmxMBeanName(jmxMBeanName));
+
+    assertThrows(
+        RuntimeException.class,
+        () ->
+            newConfigRegistry(
+                configSource,
+                builder -> builder.noReload().jmxEnabled(true).jmxMBeanName(jmxMBeanName)));
+
+    assertTrue(
+        ManagementFactory.getPlatformMBeanServer().isRegistered(new ObjectName(jmxMBeanName)));
+  }
+
+  /** Returns platform threads executor strategy which collects executors it creates. */
+  private static ExecutorStrategy recordingExecutorStrategy(List<ExecutorService> executors) {
+    return new ExecutorStrategy() {
+      @Override
+      public ExecutorService newExecutor(String threadName) {
+        return record(ExecutorStrategy.platformThreads().newExecutor(threadName));
+      }
+
+      @Override
+      public ExecutorService newExecutor(String threadName, int threads) {
+        return record(ExecutorStrategy.platformThreads().newExecutor(threadName, threads));
+      }
+
+      private ExecutorService record(ExecutorService executor) {
+        executors.add(executor);
+        return executor;
+      }
+    };
+  }
+
+  private static void assertTerminated(List<ExecutorService> executors)
+      throws InterruptedException {
+    for (ExecutorService executor : executors) {
+      assertTrue(
+          executor.awaitTermination(WAIT_FOR_RELOAD_PERIOD_MILLIS, TimeUnit.MILLISECONDS),
+          "executor is terminated");
+    }
+  }
+
+  public interface SideEffect {
+    boolean apply(Object t1, Object t2);
+  }
+}
@@ -0,0 +1,39 @@
+package io.scalecube.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.scalecube.config.source.SystemPropertiesConfigSource;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+class ConfigRegistrySettingsTest {
+
+  @Test
+  void testSourceReloadIntervals() {
+    ConfigRegistrySettings settings =
+        ConfigRegistrySettings.builder()
+            .reloadIntervalSec(10)
+            .addLastSource("source", Collections::emptyMap)
+            .addLastSource("another", Collections::emptyMap)
+            .addLastSource("static", new SystemPropertiesConfigSource())
+            .reloadIntervalSec("another", 1)
+            .build();
+
+    assertEquals(10, settings.getReloadIntervalSec("source"));
+    assertEquals(1, settings.getReloadIntervalSec("another"));
+    assertTrue(settings.isReloadEnabled("another"));
+    assertFalse(settings.isReloadEnabled("static"));
+  }
+
+  @Test
+  void testNonPositiveReloadIntervalRejected() {
+    ConfigRegistrySettings.Builder builder = ConfigRegistrySettings.builder();
+
+    assertThrows(IllegalArgumentException.class, () -> builder.reloadIntervalSec(0));
+    assertThrows(IllegalArgumentException.class, () -> builder.reloadIntervalSec("source", 0));
+    assertThrows(IllegalArgumentException.class, () -> builder.reloadIntervalSec("source", -1));
+  }
+}
@@ -0,0 +1,124 @@
+package io.scalecube.config;
+
+import static io.scalecube.config.TestUtil.closeConfigRegistries;
+import static io.scalecube.config.TestUtil.mapBuilder;
+import static io.scalecube.config.TestUtil.newConfigRegistry;
+import static io.scalecube.config.TestUtil.toConfigProps;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import io.scalecube.config.source.ConfigSource;
+import io.scalecube.config.source.LoadedConfigProperty;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ConfigSnapshotImplTest {
+
+  @Mock private ConfigSource configSource;
+
+  @AfterEach
+  void tearDown() {
+    closeConfigRegistries();
+  }
+
+  @Test
+  void testSnapshotGenerationAndPropertyVersion() {
+    when(configSource.loadConfig())
+        .thenReturn(
+            toConfigProps(mapBuilder().put("int", "1").put("string", "a").build()),
+            toConfigProps(mapBuilder().put("int", "2").put("string", "a").build()),
+            toConfigProps(mapBuilder().put("int", "2").put("string", "a").build()));
+    ConfigRegistryImpl configRegistry =
+        newConfigRegistry(configSource, builder -> builder.noReload());
+
+    IntConfigProperty intProperty = configRegistry.intProperty("int");
+    StringConfigProperty stringProperty = configRegistry.stringProperty("string");
+    ConfigSnapshot snapshot = configRegistry.snapshot();
+    assertEquals(1, snapshot.generation());
+    assertEquals(1, intProperty.version());
+    assertEquals(0, configRegistry.intProperty("absent").version());
+
+    configRegistry.loadAndNotify();
+
+    ConfigSnapshot snapshot1 = configRegistry.snapshot();
+    assertEquals(2, snapshot1.generation());
+    assertEquals(2, snapshot1.intValue("int", 0));
+    assertEquals("a", snapshot1.stringValue("string", null));
+    assertEquals(1, snapshot.intValue("int", 0)); // old snapshot is intact
+    assertEquals(2, intProperty.version());
+    assertEquals(1, stringProperty.version());
+
+    configRegistry.loadAndNotify(); // nothing changed
+
+    assertSame(snapshot1, configRegistry.snapshot());
+    assertEquals(2, intProperty.version());
+  }
+
+  @Test
+  void testSnapshotLookupByKeyId() {
+    when(configSource.loadConfig())
+        .thenReturn(
+            toConfigProps(mapBuilder().put("int", "1").put("duration", "100ms").build()),
+            toConfigProps(mapBuilder().put("int", "2").build()));
+    ConfigRegistryImpl configRegistry =
+        newConfigRegistry(configSource, builder -> builder.noReload());
+
+    int intKeyId = configRegistry.keyId("int");
+    assertEquals(intKeyId, configRegistry.keyId("int"));
+    int durationKeyId = configRegistry.keyId("duration");
+
+    ConfigSnapshot snapshot = configRegistry.snapshot();
+    assertEquals(1, snapshot.intValue(intKeyId, 0));
+    assertEquals(Duration.ofMillis(100), snapshot.durationValue(durationKeyId, null));
+
+    configRegistry.loadAndNotify();
+
+    ConfigSnapshot snapshot1 = configRegistry.snapshot();
+    assertEquals(2, snapshot1.intValue(intKeyId, 0));
+    assertEquals(2L, snapshot1.longValue(intKeyId, 0));
+    assertEquals("2", snapshot1.stringValue(intKeyId, null));
+    assertEquals(Duration.ZERO, snapshot1.durationValue(durationKeyId, Duration.ZERO));
+    assertEquals(-1, snapshot1.intValue(configRegistry.keyId("absent"), -1));
+    assertThrows(IllegalArgumentException.class, () -> snapshot1.intValue(Integer.MAX_VALUE, 0));
+  }
+
+  @Test
+  void testKeyRegisteredAfterSnapshotCreatedReadFromArray() {
+    ConfigKeyIndex keyIndex = new ConfigKeyIndex();
+    int intKeyId = keyIndex.register("int");
+    AtomicInteger lookups = new AtomicInteger();
+    Map<String, LoadedConfigProperty> propertyMap =
+        new HashMap<String, LoadedConfigProperty>() {
+          @Override
+          public LoadedConfigProperty get(Object key) {
+            lookups.incrementAndGet();
+            return super.get(key);
+          }
+        };
+    propertyMap.put("int", LoadedConfigProperty.forNameAndValue("int", "1"));
+    propertyMap.put("long", LoadedConfigProperty.forNameAndValue("long", "2"));
+    ConfigSnapshotImpl snapshot = new ConfigSnapshotImpl(1, propertyMap, keyIndex);
+
+    int longKeyId = keyIndex.register("long");
+    lookups.set(0);
+
+    assertEquals(2, snapshot.longValue(longKeyId, 0));
+    assertEquals(1, lookups.get()); // looked up once, when values array grows
+
+    assertEquals(2, snapshot.longValue(longKeyId, 0));
+    assertEquals("2", snapshot.stringValue(longKeyId, null));
+    assertEquals(1, snapshot.intValue(intKeyId, 0));
+    assertEquals(1, lookups.get());
+    assertThrows(IllegalArgumentException.class, () -> snapshot.longValue(longKeyId + 1, 0));
+  }
+}
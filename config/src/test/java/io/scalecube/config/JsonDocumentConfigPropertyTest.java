@@ -1,6 +1,7 @@
 package io.scalecube.config;
 
 import static io.scalecube.config.TestUtil.WAIT_FOR_RELOAD_PERIOD_MILLIS;
+import static io.scalecube.config.TestUtil.closeConfigRegistries;
 import static io.scalecube.config.TestUtil.mapBuilder;
 import static io.scalecube.config.TestUtil.newConfigRegistry;
 import static io.scalecube.config.TestUtil.toConfigProps;
@@ -8,6 +9,7 @@
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -30,7 +32,10 @@
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -57,6 +62,11 @@ public void setUp(TestInfo testInfo) {
     this.testInfo = testInfo;
   }
 
+  @AfterEach
+  public void tearDown() {
+    closeConfigRegistries();
+  }
+
   // Normal scenarios
 
   @Test
@@ -85,6 +95,67 @@ public void testObjectProperty() {
     assertTrue(config.isEnabled);
   }
 
+  @Test
+  public void testObjectPropertyMappedOncePerChange() {
+    String documentKey = "testObjectPropertyMappedOncePerChange";
+    when(configSource.loadConfig())
+        .thenReturn(
+            toConfigProps(mapBuilder().put(documentKey, "{\"maxCount\":1}").build()),
+            toConfigProps(mapBuilder().put(documentKey, "{\"maxCount\":2}").build()));
+    ConfigRegistryImpl configRegistry =
+        newConfigRegistry(configSource, builder -> builder.noReload());
+
+    AtomicInteger mapperCalls = new AtomicInteger();
+    Function<String, TestConfig> mapper = mapper(TestConfig.class);
+    ObjectConfigProperty<TestConfig> objectProperty =
+        configRegistry.objectProperty(
+            documentKey,
+            value -> {
+              mapperCalls.incrementAndGet();
+              return mapper.apply(value);
+            });
+    objectProperty.addValidator(Objects::nonNull);
+    AtomicReference<TestConfig> oldConfig = new AtomicReference<>();
+    AtomicReference<TestConfig> newConfig = new AtomicReference<>();
+    objectProperty.addCallback(
+        (config0, config1) -> {
+          oldConfig.set(config0);
+          newConfig.set(config1);
+        });
+
+    TestConfig config = objectProperty.value(null);
+    assertSame(config, objectProperty.value(null));
+    assertEquals(1, mapperCalls.get());
+
+    configRegistry.loadAndNotify();
+
+    assertSame(config, oldConfig.get());
+    assertSame(newConfig.get(), objectProperty.value(null));
+    assertEquals(2, newConfig.get().maxCount);
+    assertEquals(2, mapperCalls.get());
+  }
+
+  @Test
+  public void testObjectPropertyMapperFailureReportedOnRead() {
+    String documentKey = "testObjectPropertyMapperFailureReportedOnRead";
+    when(configSource.loadConfig())
+        .thenReturn(
+            toConfigProps(mapBuilder().put(documentKey, "not a json").build()),
+            toConfigProps(mapBuilder().put(documentKey, "{\"maxCount\":1}").build()));
+    ConfigRegistryImpl configRegistry =
+        newConfigRegistry(configSource, builder -> builder.noReload());
+
+    ObjectConfigProperty<TestConfig> objectProperty =
+        configRegistry.objectProperty(documentKey, mapper(TestConfig.class));
+
+    assertThrows(IllegalArgumentException.class, objectProperty::value);
+
+    configRegistry.loadAndNotify();
+
+    assertEquals(1, objectProperty.value(null).maxCount);
+    assertEquals(2, objectProperty.version());
+  }
+
   @Test
   public void testObjectPropertyValidationPassed() {
 
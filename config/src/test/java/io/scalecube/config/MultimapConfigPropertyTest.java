@@ -1,6 +1,7 @@
 package io.scalecube.config;
 
 import static io.scalecube.config.TestUtil.WAIT_FOR_RELOAD_PERIOD_MILLIS;
+import static io.scalecube.config.TestUtil.closeConfigRegistries;
 import static io.scalecube.config.TestUtil.mapBuilder;
 import static io.scalecube.config.TestUtil.newConfigRegistry;
 import static io.scalecube.config.TestUtil.toConfigProps;
@@ -20,6 +21,7 @@
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -30,6 +32,11 @@ class MultimapConfigPropertyTest {
 
   @Mock private ConfigSource configSource;
 
+  @AfterEach
+  void tearDown() {
+    closeConfigRegistries();
+  }
+
   @Test
   void testIntMultimapProperty() {
     Map<String, List<Integer>> expectedMultimap =
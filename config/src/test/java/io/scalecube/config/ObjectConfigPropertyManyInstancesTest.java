@@ -1,6 +1,7 @@
 package io.scalecube.config;
 
 import static io.scalecube.config.TestUtil.WAIT_FOR_RELOAD_PERIOD_MILLIS;
+import static io.scalecube.config.TestUtil.closeConfigRegistries;
 import static io.scalecube.config.TestUtil.mapBuilder;
 import static io.scalecube.config.TestUtil.newConfigRegistry;
 import static io.scalecube.config.TestUtil.toConfigProps;
@@ -14,6 +15,7 @@
 
 import io.scalecube.config.source.ConfigSource;
 import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -27,6 +29,11 @@ class ObjectConfigPropertyManyInstancesTest {
   @Mock private SideEffect sideEffect1;
   @Mock private SideEffect sideEffect2;
 
+  @AfterEach
+  void tearDown() {
+    closeConfigRegistries();
+  }
+
   // Normal scenarios
 
   @Test
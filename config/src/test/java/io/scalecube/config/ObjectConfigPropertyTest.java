@@ -1,6 +1,7 @@
 package io.scalecube.config;
 
 import static io.scalecube.config.TestUtil.WAIT_FOR_RELOAD_PERIOD_MILLIS;
+import static io.scalecube.config.TestUtil.closeConfigRegistries;
 import static io.scalecube.config.TestUtil.mapBuilder;
 import static io.scalecube.config.TestUtil.newConfigRegistry;
 import static io.scalecube.config.TestUtil.toConfigProps;
@@ -24,6 +25,7 @@
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
@@ -47,6 +49,11 @@ void setUp(TestInfo testInfo) {
     this.testInfo = testInfo;
   }
 
+  @AfterEach
+  void tearDown() {
+    closeConfigRegistries();
+  }
+
   // Normal scenarios
 
   @Test
@@ -189,6 +196,47 @@ void testCallbacksNotAppliedOnReloadWhenNothingChanged() throws Exception {
     verify(sideEffect, never()).apply(any(), any());
   }
 
+  @Test
+  void testObjectPropertiesOfSameClassWithDifferentPrefixes() throws Exception {
+    when(configSource.loadConfig())
+        .thenReturn(
+            toConfigProps(
+                mapBuilder()
+                    .put("primary.anInt", "1")
+                    .put("primary.aDouble", "1.0")
+                    .put("secondary.anInt", "2")
+                    .put("secondary.aDouble", "2.0")
+                    .build()))
+        .thenReturn(
+            toConfigProps(
+                mapBuilder()
+                    .put("primary.anInt", "10")
+                    .put("primary.aDouble", "1.0")
+                    .put("secondary.anInt", "2")
+                    .put("secondary.aDouble", "2.0")
+                    .build()));
+
+    ConfigRegistryImpl configRegistry = newConfigRegistry(configSource);
+
+    Class<SimpleConfig> configClass = SimpleConfig.class;
+    ObjectConfigProperty<SimpleConfig> primary =
+        configRegistry.objectProperty("primary", configClass);
+    ObjectConfigProperty<SimpleConfig> secondary =
+        configRegistry.objectProperty("secondary", configClass);
+    secondary.addCallback((cfg1, cfg2) -> sideEffect.apply(cfg1, cfg2));
+
+    assertEquals(1, primary.value(null).anInt);
+    assertEquals(2, secondary.value(null).anInt);
+    assertEquals(1, configRegistry.objectProperty("primary", configClass).value(null).anInt);
+
+    TimeUnit.MILLISECONDS.sleep(WAIT_FOR_RELOAD_PERIOD_MILLIS);
+
+    assertEquals(10, primary.value(null).anInt);
+    assertEquals(2, secondary.value(null).anInt);
+    assertEquals(2.0, secondary.value(null).aDouble);
+    verify(sideEffect, never()).apply(any(), any());
+  }
+
   @Test
   void testObjectValuesRemovedOnReloadAndNoValidationDefined() throws Exception {
     when(configSource.loadConfig())
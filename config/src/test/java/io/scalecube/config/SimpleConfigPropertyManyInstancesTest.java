@@ -1,11 +1,14 @@
 package io.scalecube.config;
 
 import static io.scalecube.config.TestUtil.WAIT_FOR_RELOAD_PERIOD_MILLIS;
+import static io.scalecube.config.TestUtil.closeConfigRegistries;
 import static io.scalecube.config.TestUtil.mapBuilder;
 import static io.scalecube.config.TestUtil.newConfigRegistry;
 import static io.scalecube.config.TestUtil.toConfigProps;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -15,6 +18,7 @@
 import io.scalecube.config.source.ConfigSource;
 import java.util.Collections;
 import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -27,6 +31,11 @@ class SimpleConfigPropertyManyInstancesTest {
   @Mock private SideEffect sideEffect1;
   @Mock private SideEffect sideEffect2;
 
+  @AfterEach
+  void tearDown() {
+    closeConfigRegistries();
+  }
+
   @Test
   void testManyInstancesValueNullInitially() {
     when(configSource.loadConfig()).thenReturn(toConfigProps(mapBuilder().build()));
@@ -127,6 +136,46 @@ void testManyInstancesListTypeAndMultimapTypeAndSimplePropertyType() {
         ImmutableMap.of("key", ImmutableList.of("value")), stringMultimapProperty.valueOrThrow());
   }
 
+  @Test
+  void testSameInstanceReturnedForSameNameAndType() {
+    when(configSource.loadConfig())
+        .thenReturn(toConfigProps(mapBuilder().put("prop", "1").build()));
+    ConfigRegistryImpl configRegistry = newConfigRegistry(configSource);
+
+    IntConfigProperty intProperty = configRegistry.intProperty("prop");
+    assertSame(intProperty, configRegistry.intProperty("prop"));
+    assertEquals(1, configRegistry.intValue("prop", 0));
+
+    assertNotSame(intProperty, configRegistry.longProperty("prop"));
+    assertSame(configRegistry.longProperty("prop"), configRegistry.longProperty("prop"));
+
+    ListConfigProperty<Integer> intListProperty = configRegistry.intListProperty("prop");
+    assertSame(intListProperty, configRegistry.intListProperty("prop"));
+    assertNotSame(intListProperty, configRegistry.longListProperty("prop"));
+  }
+
+  @Test
+  void testReloadInWeakPropertyReferencesMode() throws Exception {
+    when(configSource.loadConfig())
+        .thenReturn(toConfigProps(mapBuilder().put("prop", "1").build()))
+        .thenReturn(toConfigProps(mapBuilder().put("prop", "42").build()));
+    ConfigRegistryImpl configRegistry =
+        newConfigRegistry(configSource, builder -> builder.weakPropertyReferences(true));
+
+    IntConfigProperty intProperty = configRegistry.intProperty("prop");
+    intProperty.addCallback((i1, i2) -> sideEffect1.apply(i1, i2));
+    for (int i = 0; i < 100; i++) {
+      configRegistry.objectProperty("prop", Integer::valueOf).value(0);
+    }
+    System.gc();
+
+    TimeUnit.MILLISECONDS.sleep(WAIT_FOR_RELOAD_PERIOD_MILLIS);
+
+    assertEquals(42, intProperty.valueOrThrow());
+    assertSame(intProperty, configRegistry.intProperty("prop"));
+    verify(sideEffect1).apply(1, 42);
+  }
+
   public interface SideEffect {
     boolean apply(Object t1, Object t2);
   }
@@ -1,6 +1,7 @@
 package io.scalecube.config;
 
 import static io.scalecube.config.TestUtil.WAIT_FOR_RELOAD_PERIOD_MILLIS;
+import static io.scalecube.config.TestUtil.closeConfigRegistries;
 import static io.scalecube.config.TestUtil.mapBuilder;
 import static io.scalecube.config.TestUtil.newConfigRegistry;
 import static io.scalecube.config.TestUtil.toConfigProps;
@@ -14,8 +15,10 @@
 import static org.mockito.Mockito.when;
 
 import io.scalecube.config.source.ConfigSource;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -27,6 +30,11 @@ class SimpleConfigPropertyTest {
   @Mock private ConfigSource configSource;
   @Mock private SideEffect sideEffect;
 
+  @AfterEach
+  void tearDown() {
+    closeConfigRegistries();
+  }
+
   // Normal scenarios
 
   @Test
@@ -117,6 +125,33 @@ void testValueRemovedOnReloadAndNoValidationDefined() throws Exception {
     verify(sideEffect).apply(1, null);
   }
 
+  @Test
+  void testPrimitiveValuesFollowReload() throws Exception {
+    when(configSource.loadConfig())
+        .thenReturn(toConfigProps(mapBuilder().put("int", "1").put("bool", "true").build()))
+        .thenReturn(toConfigProps(mapBuilder().put("long", "42").put("double", "0.5").build()));
+    ConfigRegistryImpl configRegistry = newConfigRegistry(configSource);
+
+    IntConfigProperty intProperty = configRegistry.intProperty("int");
+    BooleanConfigProperty booleanProperty = configRegistry.booleanProperty("bool");
+    LongConfigProperty longProperty = configRegistry.longProperty("long");
+    DoubleConfigProperty doubleProperty = configRegistry.doubleProperty("double");
+
+    assertEquals(1, intProperty.value(0));
+    assertEquals(1, intProperty.valueOrThrow());
+    assertTrue(booleanProperty.value(false));
+    assertEquals(-1, longProperty.value(-1));
+    assertThrows(NoSuchElementException.class, doubleProperty::valueOrThrow);
+
+    TimeUnit.MILLISECONDS.sleep(WAIT_FOR_RELOAD_PERIOD_MILLIS);
+
+    assertEquals(0, intProperty.value(0));
+    assertThrows(NoSuchElementException.class, intProperty::valueOrThrow);
+    assertFalse(booleanProperty.value(false));
+    assertEquals(42, longProperty.valueOrThrow());
+    assertEquals(0.5, doubleProperty.value(1.0));
+  }
+
   @Test
   void testValueShowUpOnReload() throws Exception {
     when(configSource.loadConfig())
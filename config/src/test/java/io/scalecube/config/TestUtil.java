@@ -4,13 +4,19 @@
 import io.scalecube.config.source.ConfigSource;
 import io.scalecube.config.source.LoadedConfigProperty;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.UnaryOperator;
 
 public class TestUtil {
 
   public static final int RELOAD_PERIOD_SEC = 1;
   public static final long WAIT_FOR_RELOAD_PERIOD_MILLIS = RELOAD_PERIOD_SEC * 1500;
 
+  // registries created by newConfigRegistry, closed by closeConfigRegistries
+  private static final List<ConfigRegistryImpl> configRegistries = new CopyOnWriteArrayList<>();
+
   public static Map<String, ConfigProperty> toConfigProps(Map<String, String> props) {
     Map<String, ConfigProperty> propertyMap = new HashMap<>();
     for (Map.Entry<String, String> entry : props.entrySet()) {
@@ -21,17 +27,41 @@ public static Map<String, ConfigProperty> toConfigProps(Map<String, String> prop
   }
 
   public static ConfigRegistryImpl newConfigRegistry(ConfigSource configSource) {
-    ConfigRegistryImpl configRegistry;
-    configRegistry =
-        new ConfigRegistryImpl(
+    return newConfigRegistry(configSource, UnaryOperator.identity());
+  }
+
+  public static ConfigRegistryImpl newConfigRegistry(
+      ConfigSource configSource, UnaryOperator<ConfigRegistrySettings.Builder> options) {
+    ConfigRegistryImpl configRegistry =
+        new ConfigRegistryImpl(newConfigRegistrySettings(configSource, options));
+    configRegistries.add(configRegistry);
+    configRegistry.init();
+    return configRegistry;
+  }
+
+  /**
+   * Returns settings of config registry for tests: with given config source named "source", no
+   * JMX, no recent config events, reloaded every {@link #RELOAD_PERIOD_SEC}, unless changed by
+   * options.
+   */
+  public static ConfigRegistrySettings newConfigRegistrySettings(
+      ConfigSource configSource, UnaryOperator<ConfigRegistrySettings.Builder> options) {
+    return options
+        .apply(
             ConfigRegistrySettings.builder()
                 .jmxEnabled(false)
                 .keepRecentConfigEvents(0)
                 .addLastSource("source", configSource)
-                .reloadIntervalSec(RELOAD_PERIOD_SEC)
-                .build());
-    configRegistry.init();
-    return configRegistry;
+                .reloadIntervalSec(RELOAD_PERIOD_SEC))
+        .build();
+  }
+
+  /** Closes config registries created by {@link #newConfigRegistry} since the previous call. */
+  public static void closeConfigRegistries() {
+    for (ConfigRegistryImpl configRegistry : configRegistries) {
+      configRegistry.close();
+    }
+    configRegistries.clear();
   }
 
   public static ImmutableMap.Builder<String, String> mapBuilder() {
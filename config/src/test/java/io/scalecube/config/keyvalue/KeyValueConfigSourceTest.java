@@ -1,7 +1,10 @@
 package io.scalecube.config.keyvalue;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
@@ -11,6 +14,7 @@
 import io.scalecube.config.ConfigSourceNotAvailableException;
 import java.time.Duration;
 import java.util.Map;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -146,4 +150,28 @@ void testKeyValueLoadConfigFindAllRepositoryTimeout() throws Exception {
 
     assertThrows(ConfigSourceNotAvailableException.class, configSource::loadConfig);
   }
+
+  @Test
+  void testKeyValueFingerprint() throws Exception {
+    KeyValueConfigName n1 = new KeyValueConfigName(g1, collectionName);
+    KeyValueConfigName n2 = new KeyValueConfigName(g2, collectionName);
+    KeyValueConfigName root = new KeyValueConfigName(null, collectionName);
+
+    doReturn(Optional.of("1")).when(repository).version(n1);
+    doReturn(Optional.of("1"), Optional.of("2")).when(repository).version(n2);
+    doReturn(Optional.of("1")).when(repository).version(root);
+
+    Optional<String> fingerprint1 = configSource.fingerprint();
+    Optional<String> fingerprint2 = configSource.fingerprint(); // n2 version is 2 since now
+    Optional<String> fingerprint3 = configSource.fingerprint();
+
+    assertTrue(fingerprint1.isPresent());
+    assertNotEquals(fingerprint1, fingerprint2);
+    assertEquals(fingerprint2, fingerprint3);
+  }
+
+  @Test
+  void testKeyValueFingerprintNotSupportedByRepository() throws Exception {
+    assertFalse(configSource.fingerprint().isPresent());
+  }
 }
@@ -0,0 +1,81 @@
+package io.scalecube.config.source;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.scalecube.config.ConfigProperty;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import org.junit.jupiter.api.Test;
+
+class ClassPathConfigSourceTest {
+
+  private static final int ENTRIES_NUM = 16;
+
+  @Test
+  void testConfigFilesTakenInClasspathOrder() throws Exception {
+    Path directory = Files.createTempDirectory("config");
+    List<URL> urls = new ArrayList<>();
+    for (int i = 0; i < ENTRIES_NUM; i++) {
+      String content = "shared=" + i + "\nkey" + i + '=' + i;
+      Path entry;
+      if (i % 2 == 0) {
+        entry = Files.createDirectories(directory.resolve("classes" + i));
+        Files.write(entry.resolve("config.props"), content.getBytes());
+      } else {
+        entry = writeJar(directory.resolve("lib" + i + ".jar"), "config.props", content);
+      }
+      urls.add(entry.toUri().toURL());
+    }
+
+    Map<String, ConfigProperty> loadedConfig = loadConfig(urls);
+
+    assertEquals(Optional.of("0"), loadedConfig.get("shared").valueAsString());
+    assertEquals(
+        Optional.of(directory.resolve("classes0").resolve("config.props").toString()),
+        loadedConfig.get("shared").origin());
+    for (int i = 0; i < ENTRIES_NUM; i++) {
+      assertEquals(Optional.of(String.valueOf(i)), loadedConfig.get("key" + i).valueAsString());
+    }
+  }
+
+  @Test
+  void testPrefixPatternTakesPrecedenceOverClasspathOrder() throws Exception {
+    Path directory = Files.createTempDirectory("config");
+    Path jar = writeJar(directory.resolve("lib.jar"), "config.props", "a=jar\nb=jar");
+    Path classes = Files.createDirectories(directory.resolve("classes"));
+    Files.write(classes.resolve("override.config.props"), "a=override".getBytes());
+
+    Map<String, ConfigProperty> loadedConfig =
+        loadConfig(Arrays.asList(jar.toUri().toURL(), classes.toUri().toURL()));
+
+    assertEquals(Optional.of("override"), loadedConfig.get("a").valueAsString());
+    assertEquals(Optional.of("jar"), loadedConfig.get("b").valueAsString());
+  }
+
+  private static Map<String, ConfigProperty> loadConfig(List<URL> urls) throws Exception {
+    try (URLClassLoader classLoader = new URLClassLoader(urls.toArray(new URL[0]), null)) {
+      return ClassPathConfigSource.createWithPattern(
+              "config.props", Collections.singletonList("override"), classLoader)
+          .loadConfig();
+    }
+  }
+
+  static Path writeJar(Path file, String entryName, String content) throws Exception {
+    try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(file))) {
+      out.putNextEntry(new JarEntry(entryName));
+      out.write(content.getBytes());
+      out.closeEntry();
+    }
+    return file;
+  }
+}
@@ -0,0 +1,145 @@
+package io.scalecube.config.source;
+
+import static io.scalecube.config.source.ClassPathConfigSourceTest.writeJar;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.scalecube.config.ConfigProperty;
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ClassPathIndexTest {
+
+  private Path directory;
+  private Path indexFile;
+  private File jarFile;
+
+  @BeforeEach
+  void setup() throws Exception {
+    directory = Files.createTempDirectory("config");
+    indexFile = directory.resolve("classpath.index");
+    jarFile = writeJar(directory.resolve("lib.jar"), "config.props", "a=1").toFile();
+  }
+
+  @Test
+  void testSavedAndLoaded() throws Exception {
+    ClassPathIndex index = ClassPathIndex.load(indexFile);
+    assertNull(index.get(jarFile));
+    index.put(jarFile, newJarEntry(jarFile));
+    index.save();
+
+    ClassPathIndex.JarEntry entry = ClassPathIndex.load(indexFile).get(jarFile);
+
+    assertNotNull(entry);
+    assertEquals(Collections.singletonList("/lib/dependency.jar"), entry.classPath());
+    assertEquals(Arrays.asList("config.props", "META-INF/other.txt"), entry.resourceNames());
+  }
+
+  @Test
+  void testEntryInvalidatedWhenJarSizeChanged() throws Exception {
+    saveIndex();
+
+    writeJar(jarFile.toPath(), "config.props", "a=1\nb=2");
+
+    assertNull(ClassPathIndex.load(indexFile).get(jarFile));
+  }
+
+  @Test
+  void testEntryInvalidatedWhenJarModificationTimeChanged() throws Exception {
+    saveIndex();
+
+    assertTrue(jarFile.setLastModified(jarFile.lastModified() + 1000));
+
+    assertNull(ClassPathIndex.load(indexFile).get(jarFile));
+  }
+
+  @Test
+  void testCorruptedIndexIgnored() throws Exception {
+    Files.write(indexFile, new byte[] {0, 0, 0, 1, 0x7f, -1, -1, -1, 1, 2, 3});
+
+    ClassPathIndex index = ClassPathIndex.load(indexFile);
+
+    assertNull(index.get(jarFile));
+    index.put(jarFile, newJarEntry(jarFile));
+    index.save();
+    assertNotNull(ClassPathIndex.load(indexFile).get(jarFile));
+  }
+
+  @Test
+  void testTruncatedIndexIgnored() throws Exception {
+    saveIndex();
+    byte[] bytes = Files.readAllBytes(indexFile);
+
+    for (int length = 0; length < bytes.length; length++) {
+      Files.write(indexFile, Arrays.copyOf(bytes, length));
+      assertNull(ClassPathIndex.load(indexFile).get(jarFile));
+    }
+  }
+
+  @Test
+  void testIndexFileReplacedWithoutLeftovers() throws Exception {
+    saveIndex();
+    File otherJarFile = writeJar(directory.resolve("other.jar"), "other.props", "b=2").toFile();
+
+    ClassPathIndex index = ClassPathIndex.load(indexFile);
+    index.put(otherJarFile, newJarEntry(otherJarFile));
+    index.save();
+
+    ClassPathIndex loadedIndex = ClassPathIndex.load(indexFile);
+    assertNull(loadedIndex.get(jarFile)); // not looked up since loaded, hence dropped
+    assertNotNull(loadedIndex.get(otherJarFile));
+    try (Stream<Path> files = Files.list(directory)) {
+      assertFalse(files.anyMatch(file -> file.toString().endsWith(".tmp")));
+    }
+  }
+
+  @Test
+  void testChangedJarRescannedBySource() throws Exception {
+    writeJar(jarFile.toPath(), "other.props", "b=2");
+    assertFalse(loadConfig().containsKey("a"));
+
+    writeJar(jarFile.toPath(), "config.props", "a=1");
+
+    assertEquals(Optional.of("1"), loadConfig().get("a").valueAsString());
+  }
+
+  private Map<String, ConfigProperty> loadConfig() throws Exception {
+    try (URLClassLoader classLoader =
+        new URLClassLoader(new URL[] {jarFile.toURI().toURL()}, null)) {
+      return new ClassPathConfigSource(
+              FilteredPathConfigSource.preparePatternPredicates(
+                  "config.props", Collections.emptyList()),
+              indexFile,
+              classLoader)
+          .loadConfig();
+    }
+  }
+
+  private void saveIndex() {
+    ClassPathIndex index = ClassPathIndex.load(indexFile);
+    index.put(jarFile, newJarEntry(jarFile));
+    index.save();
+    assertNotNull(ClassPathIndex.load(indexFile).get(jarFile));
+  }
+
+  private static ClassPathIndex.JarEntry newJarEntry(File jarFile) {
+    return new ClassPathIndex.JarEntry(
+        jarFile.lastModified(),
+        jarFile.length(),
+        Collections.singletonList("/lib/dependency.jar"),
+        Arrays.asList("config.props", "META-INF/other.txt"));
+  }
+}
@@ -0,0 +1,58 @@
+package io.scalecube.config.source;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.scalecube.config.ConfigProperty;
+import io.scalecube.config.ConfigSourceNotAvailableException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class ConfigBundleConfigSourceTest {
+
+  @Test
+  void testBundleLoadedFromClasspath() throws Exception {
+    Path directory = Files.createTempDirectory("config");
+    Path bundleFile = directory.resolve(ConfigBundleConfigSource.DEFAULT_RESOURCE_NAME);
+    Files.createDirectories(bundleFile.getParent());
+    Map<String, LoadedConfigProperty> configMap = new LinkedHashMap<>();
+    configMap.put("a", LoadedConfigProperty.withNameAndValue("a", "1").origin("a.props").build());
+    configMap.put("b", LoadedConfigProperty.withNameAndValue("b", "2").origin("b.props").build());
+    try (OutputStream out = Files.newOutputStream(bundleFile)) {
+      ConfigBundle.write(configMap, out);
+    }
+
+    try (URLClassLoader classLoader =
+        new URLClassLoader(new URL[] {directory.toUri().toURL()}, null)) {
+      ConfigBundleConfigSource configSource =
+          new ConfigBundleConfigSource(ConfigBundleConfigSource.DEFAULT_RESOURCE_NAME, classLoader);
+
+      Map<String, ConfigProperty> loadedConfig = configSource.loadConfig();
+
+      assertEquals(configMap.keySet(), loadedConfig.keySet());
+      assertEquals(Optional.of("1"), loadedConfig.get("a").valueAsString());
+      assertEquals(Optional.of("a.props"), loadedConfig.get("a").origin());
+      assertEquals(Optional.of("2"), loadedConfig.get("b").valueAsString());
+      assertEquals(Optional.of("b.props"), loadedConfig.get("b").origin());
+      assertSame(loadedConfig, configSource.loadConfig());
+    }
+  }
+
+  @Test
+  void testBundleResourceNotFound() throws Exception {
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[0], null)) {
+      ConfigBundleConfigSource configSource =
+          new ConfigBundleConfigSource(ConfigBundleConfigSource.DEFAULT_RESOURCE_NAME, classLoader);
+
+      assertThrows(ConfigSourceNotAvailableException.class, configSource::loadConfig);
+    }
+  }
+}
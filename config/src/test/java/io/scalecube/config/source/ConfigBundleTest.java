@@ -0,0 +1,124 @@
+package io.scalecube.config.source;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class ConfigBundleTest {
+
+  @Test
+  void testWriteAndReadBack() throws Exception {
+    Map<String, LoadedConfigProperty> configMap = new LinkedHashMap<>();
+    configMap.put(
+        "a",
+        LoadedConfigProperty.withNameAndValue("a", "1")
+            .source("classpath")
+            .origin("a.props")
+            .build());
+    configMap.put(
+        "b",
+        LoadedConfigProperty.withNameAndValue("b", "\u0434\u0432\u0430").source("files").build());
+
+    Map<String, LoadedConfigProperty> result = ConfigBundle.read(ByteBuffer.wrap(write(configMap)));
+
+    assertEquals(configMap.keySet(), result.keySet());
+    assertEquals(Optional.of("1"), result.get("a").valueAsString());
+    assertEquals(Optional.of("classpath"), result.get("a").source());
+    assertEquals(Optional.of("a.props"), result.get("a").origin());
+    assertEquals(Optional.of("\u0434\u0432\u0430"), result.get("b").valueAsString());
+    assertEquals(Optional.of("files"), result.get("b").source());
+    assertFalse(result.get("b").origin().isPresent());
+  }
+
+  @Test
+  void testNullValueAndOriginWrittenAndReadBack() throws Exception {
+    Map<String, LoadedConfigProperty> configMap = new LinkedHashMap<>();
+    configMap.put("a", LoadedConfigProperty.withNameAndValue("a", null).build());
+    configMap.put("b", LoadedConfigProperty.withNameAndValue("b", "").origin("").build());
+
+    Map<String, LoadedConfigProperty> result = ConfigBundle.read(ByteBuffer.wrap(write(configMap)));
+
+    assertFalse(result.get("a").valueAsString().isPresent());
+    assertFalse(result.get("a").source().isPresent());
+    assertFalse(result.get("a").origin().isPresent());
+    assertEquals(Optional.of(""), result.get("b").valueAsString());
+    assertEquals(Optional.of(""), result.get("b").origin());
+  }
+
+  @Test
+  void testEmptyBundle() throws Exception {
+    assertTrue(ConfigBundle.read(ByteBuffer.wrap(write(new LinkedHashMap<>()))).isEmpty());
+  }
+
+  @Test
+  void testBadMagic() throws Exception {
+    ByteBuffer buffer = ByteBuffer.wrap(write(new LinkedHashMap<>()));
+    buffer.putInt(0, 0xCAFEBABE);
+
+    assertThrows(IllegalArgumentException.class, () -> ConfigBundle.read(buffer));
+  }
+
+  @Test
+  void testBadVersion() throws Exception {
+    ByteBuffer buffer = ByteBuffer.wrap(write(new LinkedHashMap<>()));
+    buffer.putInt(4, 42);
+
+    IllegalArgumentException e =
+        assertThrows(IllegalArgumentException.class, () -> ConfigBundle.read(buffer));
+    assertTrue(e.getMessage().contains("42"));
+  }
+
+  @Test
+  void testTruncatedBundle() throws Exception {
+    Map<String, LoadedConfigProperty> configMap = new LinkedHashMap<>();
+    configMap.put("a", LoadedConfigProperty.withNameAndValue("a", "1").origin("a.props").build());
+    byte[] bytes = write(configMap);
+
+    for (int length = 0; length < bytes.length; length++) {
+      ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, length);
+      assertThrows(IllegalArgumentException.class, () -> ConfigBundle.read(buffer));
+    }
+  }
+
+  @Test
+  void testReadVersion1WithoutSource() throws Exception {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
+    out.writeInt(0x53434342);
+    out.writeInt(1);
+    out.writeInt(1);
+    writeString(out, "a");
+    writeString(out, "1");
+    writeString(out, "a.props");
+
+    Map<String, LoadedConfigProperty> result =
+        ConfigBundle.read(ByteBuffer.wrap(bytes.toByteArray()));
+
+    assertEquals(Optional.of("1"), result.get("a").valueAsString());
+    assertEquals(Optional.of("a.props"), result.get("a").origin());
+    assertFalse(result.get("a").source().isPresent());
+  }
+
+  private static byte[] write(Map<String, LoadedConfigProperty> configMap) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ConfigBundle.write(configMap, out);
+    return out.toByteArray();
+  }
+
+  private static void writeString(DataOutputStream out, String s) throws IOException {
+    byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+}
@@ -0,0 +1,249 @@
+package io.scalecube.config.source;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.scalecube.config.ConfigProperty;
+import io.scalecube.config.ConfigRegistry;
+import io.scalecube.config.ConfigRegistrySettings;
+import io.scalecube.config.ConfigSourceNotAvailableException;
+import io.scalecube.config.StringConfigProperty;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FileDirectoryConfigSourceTest {
+
+  private static final String WATCHER_THREAD_NAME = "config-directory-watcher";
+
+  // polling watch service (used where native one isn't available) may take several seconds
+  private static final long AWAIT_TIMEOUT_MILLIS = 15_000;
+
+  private static final Predicate<Path> PROPS_PREDICATE =
+      path -> path.getFileName().toString().endsWith(".props");
+
+  private Path directory;
+  private FileDirectoryConfigSource configSource;
+
+  @BeforeEach
+  void setup() throws Exception {
+    directory = Files.createTempDirectory("config");
+  }
+
+  @AfterEach
+  void cleanup() throws Exception {
+    if (configSource != null) {
+      configSource.close();
+    }
+  }
+
+  @Test
+  void testWatchedDirectoryChangesPickedUpByRegistry() throws Exception {
+    writeFile("config.props", "a=1");
+    configSource =
+        FileDirectoryConfigSource.createWithPattern(
+            directory.toString(), "config.props", Collections.singletonList("override"), true);
+
+    try (ConfigRegistry configRegistry =
+        ConfigRegistry.create(
+            ConfigRegistrySettings.builder()
+                .jmxEnabled(false)
+                .noReload()
+                .reloadDebounce(Duration.ofMillis(10))
+                .addLastSource("directory", configSource)
+                .build())) {
+
+      StringConfigProperty a = configRegistry.stringProperty("a");
+      StringConfigProperty b = configRegistry.stringProperty("b");
+      assertEquals(Optional.of("1"), a.value());
+
+      writeFile("config.props", "a=2", "b=2");
+      awaitUntil(() -> a.value().equals(Optional.of("2")) && b.value().equals(Optional.of("2")));
+
+      writeFile("override.config.props", "a=override");
+      awaitUntil(() -> a.value().equals(Optional.of("override")));
+
+      Files.delete(directory.resolve("override.config.props"));
+      awaitUntil(() -> a.value().equals(Optional.of("2")));
+    }
+  }
+
+  @Test
+  void testListenerNotifiedAndFingerprintChangedOnChange() throws Exception {
+    writeFile("config.props", "a=1");
+    configSource = newConfigSource(true);
+    AtomicInteger changes = new AtomicInteger();
+
+    assertTrue(configSource.subscribe(changes::incrementAndGet));
+    String fingerprint = configSource.fingerprint().get();
+    assertEquals("watch:0", fingerprint);
+
+    writeFile("config.props", "a=2");
+    awaitUntil(() -> changes.get() > 0);
+
+    assertTrue(configSource.fingerprint().get().startsWith("watch:"));
+    assertNotEquals(fingerprint, configSource.fingerprint().get());
+    assertEquals(Optional.of("2"), configSource.loadConfig().get("a").valueAsString());
+  }
+
+  @Test
+  void testNotSubscribedWithoutWatchMode() throws Exception {
+    configSource = newConfigSource(false);
+
+    assertFalse(configSource.subscribe(() -> {}));
+    assertFalse(configSource.fingerprint().get().startsWith("watch:"));
+  }
+
+  @Test
+  void testFingerprintChangedOnSameSizeRewriteWithinSameSecond() throws Exception {
+    Path file = writeFile("config.props", "a=1");
+    FileTime lastModifiedTime = Files.getLastModifiedTime(file);
+    configSource = newConfigSource(false);
+    String fingerprint = configSource.fingerprint().get();
+
+    // same size and, as on file system with coarse timestamps, same modification time
+    writeFile("config.props", "a=2");
+    Files.setLastModifiedTime(file, lastModifiedTime);
+
+    assertNotEquals(fingerprint, configSource.fingerprint().get());
+    assertEquals(Optional.of("2"), configSource.loadConfig().get("a").valueAsString());
+  }
+
+  @Test
+  void testFingerprintNotChangedWhileFilesNotChanged() throws Exception {
+    Path file = writeFile("config.props", "a=1");
+    Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() - 60_000));
+    writeFile("recent.props", "b=1");
+    configSource = newConfigSource(false);
+
+    assertEquals(configSource.fingerprint(), configSource.fingerprint());
+  }
+
+  @Test
+  void testOnlyChangedFilesParsedAgain() throws Exception {
+    writeFile("a.props", "a=1");
+    Path fileB = writeFile("b.props", "b=1");
+    long lastModifiedB = fileB.toFile().lastModified();
+    configSource = newConfigSource(true);
+    configSource.loadConfig();
+
+    writeFile("a.props", "a=22");
+    // same size and modification time, so file looks unchanged
+    writeFile("b.props", "b=2");
+    assertTrue(fileB.toFile().setLastModified(lastModifiedB));
+
+    Map<String, ConfigProperty> loadedConfig = configSource.loadConfig();
+    assertEquals(Optional.of("22"), loadedConfig.get("a").valueAsString());
+    assertEquals(Optional.of("1"), loadedConfig.get("b").valueAsString());
+
+    try (FileDirectoryConfigSource notWatchedSource = newConfigSource(false)) {
+      assertEquals(Optional.of("2"), notWatchedSource.loadConfig().get("b").valueAsString());
+    }
+  }
+
+  @Test
+  void testFileNamedByWatchEventParsedAgain() throws Exception {
+    Path file = writeFile("config.props", "a=1");
+    FileTime lastModifiedTime = Files.getLastModifiedTime(file);
+    configSource = newConfigSource(true);
+    AtomicInteger changes = new AtomicInteger();
+    assertTrue(configSource.subscribe(changes::incrementAndGet));
+    configSource.loadConfig();
+
+    // same size and modification time, but watch event tells it has changed
+    writeFile("config.props", "a=2");
+    Files.setLastModifiedTime(file, lastModifiedTime);
+    awaitUntil(() -> changes.get() > 0);
+
+    assertEquals(Optional.of("2"), configSource.loadConfig().get("a").valueAsString());
+  }
+
+  @Test
+  void testDeletedFileEvictedFromCache() throws Exception {
+    writeFile("a.props", "a=1");
+    Path fileB = writeFile("b.props", "b=1");
+    long lastModifiedB = fileB.toFile().lastModified();
+    configSource = newConfigSource(true);
+    configSource.loadConfig();
+
+    Files.delete(fileB);
+    assertFalse(configSource.loadConfig().containsKey("b"));
+
+    writeFile("b.props", "b=2");
+    assertTrue(fileB.toFile().setLastModified(lastModifiedB));
+
+    assertEquals(Optional.of("2"), configSource.loadConfig().get("b").valueAsString());
+  }
+
+  @Test
+  void testWatchingStoppedWhenDirectoryDeleted() throws Exception {
+    Path file = writeFile("config.props", "a=1");
+    configSource = newConfigSource(true);
+    AtomicInteger changes = new AtomicInteger();
+    assertTrue(configSource.subscribe(changes::incrementAndGet));
+
+    Files.delete(file);
+    Files.delete(directory);
+    awaitUntil(() -> !configSource.fingerprint().map(s -> s.startsWith("watch:")).orElse(false));
+
+    assertTrue(changes.get() > 0);
+    assertFalse(configSource.fingerprint().isPresent());
+    assertThrows(ConfigSourceNotAvailableException.class, configSource::loadConfig);
+  }
+
+  @Test
+  void testCloseStopsWatcherThread() throws Exception {
+    writeFile("config.props", "a=1");
+    configSource = newConfigSource(true);
+    Set<Thread> watcherThreads = watcherThreads();
+
+    assertTrue(configSource.subscribe(() -> {}));
+    Set<Thread> threads = watcherThreads();
+    threads.removeAll(watcherThreads);
+    assertEquals(1, threads.size());
+
+    configSource.close();
+
+    assertFalse(threads.iterator().next().isAlive());
+    assertFalse(configSource.fingerprint().get().startsWith("watch:"));
+  }
+
+  private FileDirectoryConfigSource newConfigSource(boolean watch) {
+    return new FileDirectoryConfigSource(
+        directory.toString(), Collections.singletonList(PROPS_PREDICATE), watch);
+  }
+
+  private Path writeFile(String filename, String... lines) throws Exception {
+    return Files.write(directory.resolve(filename), String.join("\n", lines).getBytes());
+  }
+
+  private static Set<Thread> watcherThreads() {
+    return Thread.getAllStackTraces().keySet().stream()
+        .filter(thread -> WATCHER_THREAD_NAME.equals(thread.getName()))
+        .collect(Collectors.toSet());
+  }
+
+  private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + AWAIT_TIMEOUT_MILLIS;
+    while (!condition.getAsBoolean()) {
+      assertTrue(System.currentTimeMillis() < deadline, "Condition not met in time");
+      TimeUnit.MILLISECONDS.sleep(10);
+    }
+  }
+}